@@ -0,0 +1,125 @@
+package com.progbits.api.conversion.benchmark;
+
+import com.progbits.api.conversion.ApiObjectConverter;
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Builds Convert Objects and subjects for the benchmarks
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Convert Object of fieldCount fields. Even fields use the string form,
+     * odd fields the object form.
+     */
+    static ApiObject convertObject(int fieldCount) {
+        ApiObject convertObj = new ApiObject();
+
+        for (int i = 0; i < fieldCount; i++) {
+            if (i % 2 == 0) {
+                convertObj.setString("field" + i, "col_" + i);
+            } else {
+                ApiObject fieldObj = convertObj.createObject("field" + i);
+
+                fieldObj.setString("field", "col_" + i);
+            }
+        }
+
+        return convertObj;
+    }
+
+    static ApiObject record(int fieldCount, int seed) {
+        ApiObject record = new ApiObject();
+
+        for (int i = 0; i < fieldCount; i++) {
+            if (i % 3 == 0) {
+                record.setInteger("field" + i, seed + i);
+            } else {
+                record.setString("field" + i, "value " + seed + "-" + i);
+            }
+        }
+
+        return record;
+    }
+
+    /**
+     * A single record when rootSize is 1, otherwise a root list
+     */
+    static ApiObject subject(int fieldCount, int rootSize) {
+        if (rootSize == 1) {
+            return record(fieldCount, 0);
+        }
+
+        ApiObject subject = new ApiObject();
+
+        subject.createList("root");
+
+        for (int i = 0; i < rootSize; i++) {
+            subject.getList("root").add(record(fieldCount, i));
+        }
+
+        return subject;
+    }
+
+    static ApiObject properties() {
+        return properties(3);
+    }
+
+    /**
+     * A properties object with phoneCount records in the phones list
+     */
+    static ApiObject properties(int phoneCount) {
+        ApiObject props = new ApiObject();
+
+        props.setString("name", "Benchmark Contact");
+        props.setInteger("visits", 42);
+        props.setBoolean("active", true);
+        props.setDateTime("created", OffsetDateTime.of(2025, 5, 2, 13, 45, 12, 123_000_000, ZoneOffset.UTC));
+
+        ApiObject address = props.createObject("address");
+
+        address.setString("street", "100 Main St");
+        address.setString("city", "Springfield");
+        address.setString("postal", "12345");
+
+        props.createStringArray("tags");
+        props.getStringArray("tags").add("alpha");
+        props.getStringArray("tags").add("beta");
+
+        props.createList("phones");
+
+        for (int i = 0; i < phoneCount; i++) {
+            ApiObject phone = new ApiObject();
+
+            phone.setString("type", "type" + i);
+            phone.setString("number", "555-010" + i);
+
+            props.getList("phones").add(phone);
+        }
+
+        return props;
+    }
+
+    /**
+     * A properties object as written by an encoding method, ie: json2String
+     */
+    static Object encode(ApiObjectConverter apiConvert, ApiObject props, String method) throws ApiException {
+        ApiObject subject = new ApiObject();
+
+        subject.setObject("value", props);
+
+        ApiObject convertObj = new ApiObject();
+        ApiObject fieldObj = convertObj.createObject("value");
+
+        fieldObj.setString("field", "value");
+        fieldObj.setString("method", method);
+
+        return apiConvert.convertObjectV2(subject, convertObj, false).get("value");
+    }
+}
@@ -0,0 +1,38 @@
+package com.progbits.api.conversion.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler and JSON results
+ *
+ * <p>
+ * Accepts the standard JMH command line. Results are written to
+ * jmh-result.json unless -rff is given, for comparing releases.</p>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+        OptionsBuilder builder = new OptionsBuilder();
+
+        builder.parent(cmdOptions)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(cmdOptions.getResultFormat().orElse(ResultFormatType.JSON));
+
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result("jmh-result.json");
+        }
+
+        Options options = builder.build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,56 @@
+package com.progbits.api.conversion.benchmark;
+
+import com.progbits.api.conversion.ApiObjectConverter;
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * convertObject vs convertObjectV2 across field counts and root list sizes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConvertBenchmark {
+
+    @Param({"5", "20", "50"})
+    int fieldCount;
+
+    @Param({"1", "100", "10000"})
+    int rootSize;
+
+    ApiObjectConverter apiConvert;
+    ApiObject convertObj;
+    ApiObject subject;
+
+    @Setup
+    public void setup() {
+        apiConvert = ApiObjectConverter.getInstance();
+        convertObj = BenchmarkData.convertObject(fieldCount);
+        subject = BenchmarkData.subject(fieldCount, rootSize);
+    }
+
+    @Benchmark
+    public ApiObject convertObject() throws ApiException {
+        return apiConvert.convertObject(subject, convertObj);
+    }
+
+    @Benchmark
+    public ApiObject convertObjectV2() throws ApiException {
+        return apiConvert.convertObjectV2(subject, convertObj, false);
+    }
+}
@@ -0,0 +1,81 @@
+package com.progbits.api.conversion.benchmark;
+
+import com.progbits.api.conversion.ApiObjectConverter;
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Storing a properties object as JSON text vs the binary encoding
+ *
+ * <p>
+ * The encoded size of each format is printed during setup.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+    @Param({"json", "binary"})
+    String format;
+
+    @Param({"3", "100"})
+    int phoneCount;
+
+    ApiObjectConverter apiConvert;
+    ApiObject writeConvert;
+    ApiObject readConvert;
+    ApiObject subject;
+    ApiObject row;
+
+    @Setup
+    public void setup() throws ApiException {
+        apiConvert = ApiObjectConverter.getInstance();
+
+        String method = "json".equals(format) ? "json2String" : "object2Binary";
+
+        writeConvert = new ApiObject();
+
+        ApiObject fieldObj = writeConvert.createObject("properties");
+
+        fieldObj.setString("field", "props");
+        fieldObj.setString("method", method);
+
+        readConvert = apiConvert.reverseConvertObject(writeConvert);
+
+        subject = new ApiObject();
+        subject.setObject("properties", BenchmarkData.properties(phoneCount));
+
+        row = apiConvert.convertObjectV2(subject, writeConvert, false);
+
+        Object encoded = row.get("props");
+        int size = encoded instanceof byte[] bytes ? bytes.length : encoded.toString().getBytes(StandardCharsets.UTF_8).length;
+
+        System.out.printf("%n%s, %d phones: %d bytes%n", format, phoneCount, size);
+    }
+
+    @Benchmark
+    public ApiObject write() throws ApiException {
+        return apiConvert.convertObjectV2(subject, writeConvert, false);
+    }
+
+    @Benchmark
+    public ApiObject read() throws ApiException {
+        return apiConvert.convertObjectV2(row, readConvert, false);
+    }
+}
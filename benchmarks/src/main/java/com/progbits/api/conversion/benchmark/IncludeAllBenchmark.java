@@ -0,0 +1,54 @@
+package com.progbits.api.conversion.benchmark;
+
+import com.progbits.api.conversion.ApiObjectConverter;
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * includeAll with orderBy rewriting, as used for search requests
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncludeAllBenchmark {
+
+    ApiObjectConverter apiConvert;
+    ApiObject convertObj;
+    ApiObject subject;
+
+    @Setup
+    public void setup() {
+        apiConvert = ApiObjectConverter.getInstance();
+        convertObj = BenchmarkData.convertObject(20);
+        subject = BenchmarkData.record(10, 0);
+
+        subject.setInteger("start", 0);
+        subject.setInteger("count", 50);
+        subject.setString("unmapped", "passed through");
+
+        subject.createStringArray("orderBy");
+
+        for (int i = 0; i < 6; i++) {
+            subject.getStringArray("orderBy").add(i % 2 == 0 ? "field" + i : "-field" + i);
+        }
+    }
+
+    @Benchmark
+    public ApiObject includeAllOrderBy() throws ApiException {
+        return apiConvert.convertObject(subject, convertObj, true);
+    }
+}
@@ -0,0 +1,137 @@
+package com.progbits.api.conversion.benchmark;
+
+import com.progbits.api.conversion.ApiObjectConverter;
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stress test for the pooled JSON buffers, with every thread converting at
+ * once
+ *
+ * <p>
+ * Each thread round trips its own properties object through json2Bytes,
+ * bytes2Json, string2Json and json2String, and fails the run if it ever reads
+ * back anything but its own data. roundTripVirtual does the same from many
+ * virtual threads per operation.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class JsonConcurrencyBenchmark {
+
+    private static final AtomicInteger seeds = new AtomicInteger();
+
+    private static final int VIRTUAL_THREADS = 64;
+
+    ApiObjectConverter apiConvert;
+    ApiObject writeConvert;
+    ApiObject readConvert;
+    ApiObject textConvert;
+    ApiObject textReadConvert;
+    ApiObject subject;
+    String expected;
+    ExecutorService virtualExecutor;
+
+    @Setup
+    public void setup() throws ApiException {
+        apiConvert = ApiObjectConverter.getInstance();
+
+        writeConvert = fieldConvert("json2Bytes");
+        readConvert = apiConvert.reverseConvertObject(writeConvert);
+        textConvert = fieldConvert("json2String");
+        textReadConvert = apiConvert.reverseConvertObject(textConvert);
+
+        int seed = seeds.incrementAndGet();
+        ApiObject props = BenchmarkData.properties(seed % 20 + 1);
+
+        props.setString("name", "Thread " + seed + " Zo\u00eb \u2603 \uD834\uDD1E");
+        props.setInteger("visits", seed);
+
+        subject = new ApiObject();
+        subject.setObject("properties", props);
+
+        expected = apiConvert.convertObjectV2(subject, textConvert, false).getString("props");
+        virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        virtualExecutor.shutdown();
+    }
+
+    @Benchmark
+    public String roundTrip() throws ApiException {
+        return check(roundTripOnce());
+    }
+
+    @Benchmark
+    public int roundTripVirtual() throws InterruptedException, ExecutionException {
+        List<Future<String>> results = new ArrayList<>(VIRTUAL_THREADS);
+
+        for (int i = 0; i < VIRTUAL_THREADS; i++) {
+            results.add(virtualExecutor.submit(this::roundTripOnce));
+        }
+
+        for (Future<String> result : results) {
+            check(result.get());
+        }
+
+        return results.size();
+    }
+
+    private String roundTripOnce() throws ApiException {
+        ApiObject row = apiConvert.convertObjectV2(subject, writeConvert, false);
+        ApiObject fromBytes = apiConvert.convertObjectV2(row, readConvert, false);
+        String text = apiConvert.convertObjectV2(fromBytes, textConvert, false).getString("props");
+
+        ApiObject textRow = new ApiObject();
+
+        textRow.setString("props", text);
+
+        ApiObject fromText = apiConvert.convertObjectV2(textRow, textReadConvert, false);
+
+        return apiConvert.convertObjectV2(fromText, textConvert, false).getString("props");
+    }
+
+    private String check(String actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Round Trip Returned Other Data:\nExpected: " + expected + "\nActual: " + actual);
+        }
+
+        return actual;
+    }
+
+    private static ApiObject fieldConvert(String method) {
+        ApiObject convertObj = new ApiObject();
+        ApiObject fieldObj = convertObj.createObject("properties");
+
+        fieldObj.setString("field", "props");
+        fieldObj.setString("method", method);
+
+        return convertObj;
+    }
+}
@@ -0,0 +1,83 @@
+package com.progbits.api.conversion.benchmark;
+
+import com.progbits.api.conversion.ApiObjectConverter;
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Each built in method, converting a single field
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MethodBenchmark {
+
+    @Param({"json2String", "string2Json", "boolToInt", "intToBool", "stringToDate", "dateToString", "object2Binary", "binary2Object", "json2Bytes", "bytes2Json"})
+    String method;
+
+    ApiObjectConverter apiConvert;
+    ApiObject convertObj;
+    ApiObject subject;
+
+    @Setup
+    public void setup() throws ApiException {
+        apiConvert = ApiObjectConverter.getInstance();
+
+        convertObj = new ApiObject();
+
+        ApiObject fieldObj = convertObj.createObject("value");
+
+        fieldObj.setString("field", "result");
+        fieldObj.setString("method", method);
+
+        subject = new ApiObject();
+
+        switch (method) {
+            case "json2String" ->
+                subject.setObject("value", BenchmarkData.properties());
+            case "string2Json" ->
+                subject.setString("value", (String) BenchmarkData.encode(apiConvert, BenchmarkData.properties(), "json2String"));
+            case "object2Binary" ->
+                subject.setObject("value", BenchmarkData.properties());
+            case "binary2Object" ->
+                subject.put("value", BenchmarkData.encode(apiConvert, BenchmarkData.properties(), "object2Binary"));
+            case "json2Bytes" ->
+                subject.setObject("value", BenchmarkData.properties());
+            case "bytes2Json" ->
+                subject.put("value", BenchmarkData.encode(apiConvert, BenchmarkData.properties(), "json2Bytes"));
+            case "boolToInt" ->
+                subject.setBoolean("value", true);
+            case "intToBool" ->
+                subject.setInteger("value", 1);
+            case "stringToDate" ->
+                subject.setString("value", "2025-05-02T13:45:12.123Z");
+            case "dateToString" ->
+                subject.setDateTime("value", OffsetDateTime.of(2025, 5, 2, 13, 45, 12, 123_000_000, ZoneOffset.UTC));
+
+            default ->
+                throw new IllegalArgumentException("Unknown method " + method);
+        }
+    }
+
+    @Benchmark
+    public ApiObject convertField() throws ApiException {
+        return apiConvert.convertObjectV2(subject, convertObj, false);
+    }
+}
@@ -0,0 +1,59 @@
+package com.progbits.api.conversion.benchmark;
+
+import com.progbits.api.conversion.ApiObjectConverter;
+import com.progbits.api.model.ApiObject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * reverseConvertObject and dotted path setField
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReverseBenchmark {
+
+    @Param({"name", "address.city"})
+    String fieldName;
+
+    ApiObjectConverter apiConvert;
+    ApiObject convertObj;
+
+    @Setup
+    public void setup() {
+        apiConvert = ApiObjectConverter.getInstance();
+        convertObj = BenchmarkData.convertObject(20);
+
+        ApiObject props = convertObj.createObject("properties");
+
+        props.setString("field", "properties_json");
+        props.setString("method", "json2String");
+    }
+
+    @Benchmark
+    public ApiObject reverseConvertObject() {
+        return apiConvert.reverseConvertObject(convertObj);
+    }
+
+    @Benchmark
+    public ApiObject setField() {
+        ApiObject to = new ApiObject();
+
+        apiConvert.setField(to, fieldName, "value");
+
+        return to;
+    }
+}
@@ -0,0 +1,41 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+
+/**
+ * Conversion failure for a single entry of a root list
+ *
+ * <p>
+ * Keeps the status code of the original exception, and reports the index of
+ * the record that failed.</p>
+ */
+public class ApiConversionException extends ApiException {
+
+    private final int recordIndex;
+    private final ApiException recordException;
+
+    public ApiConversionException(int recordIndex, ApiException recordException) {
+        super(recordException.getCode(), "root[" + recordIndex + "]: " + recordException.getMessage());
+
+        this.recordIndex = recordIndex;
+        this.recordException = recordException;
+    }
+
+    /**
+     * Index in the root list of the record that failed
+     *
+     * @return The record index
+     */
+    public int getRecordIndex() {
+        return recordIndex;
+    }
+
+    /**
+     * The exception thrown while converting the record
+     *
+     * @return The original exception
+     */
+    public ApiException getRecordException() {
+        return recordException;
+    }
+}
@@ -1,19 +1,40 @@
 package com.progbits.api.conversion;
 
-import com.progbits.api.exception.ApiClassNotFoundException;
+import com.progbits.api.config.ConfigProvider;
 import com.progbits.api.exception.ApiException;
 import com.progbits.api.model.ApiObject;
 import com.progbits.api.model.ApiObjectUtils;
-import com.progbits.api.parser.JsonObjectParser;
 import com.progbits.api.utils.service.ApiInstance;
 import com.progbits.api.utils.service.ApiService;
-import com.progbits.api.writer.JsonObjectWriter;
-import java.io.StringReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,7 +43,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kevin.Carr
  */
-public class ApiObjectConverter implements ApiService {
+public class ApiObjectConverter implements ApiService, AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(ApiObjectConverter.class);
 
@@ -34,21 +55,22 @@ public class ApiObjectConverter implements ApiService {
 
     @Override
     public void configure() {
-        methods.put("json2String", this::json2String);
-        methods.put("string2Json", this::string2Json);
-
-        methods.put("boolToInt", this::convertFieldFromBoolean);
-        methods.put("intToBool", this::convertFieldToBoolean);
+        // Keep the deprecated Reverse Methods and the reversed mappings in step with the registry
+        if (configured.compareAndSet(false, true)) {
+            registry.addListener((name, previous, current) -> methodsChanged(name));
+        }
 
-        methods.put("stringToDate", this::convertStringToDate);
-        methods.put("dateToString", this::convertDateToString);
+        registry.registerPair("json2String", this::json2String, "string2Json", this::string2Json);
+        registry.registerPair("json2Bytes", this::json2Bytes, "bytes2Json", this::bytes2Json);
+        registry.registerPair("boolToInt", this::convertFieldFromBoolean, "intToBool", this::convertFieldToBoolean);
+        registry.registerPair("stringToDate", this::convertStringToDate, "dateToString", this::convertDateToString);
+        registry.registerPair("object2Binary", this::object2Binary, "binary2Object", this::binary2Object);
 
-        reverseMethods.setString("json2String", "string2Json");
-        reverseMethods.setString("string2Json", "json2String");
-        reverseMethods.setString("boolToInt", "intToBool");
-        reverseMethods.setString("intToBool", "boolToInt");
-        reverseMethods.setString("stringToDate", "dateToString");
-        reverseMethods.setString("dateToString", "stringToDate");
+        try {
+            reloadMappings();
+        } catch (RuntimeException rex) {
+            log.error("Failed to load Conversion Mappings", rex);
+        }
     }
 
     public static final String FIELD_FIELD = "field";
@@ -57,26 +79,516 @@ public class ApiObjectConverter implements ApiService {
     public static final String FIELD_DOT_METHOD = ".method";
     public static final String FIELD_TYPE = "type";
     public static final String FIELD_REQUIRED = "required";
+    public static final String FIELD_FORMAT = "format";
+    public static final String FIELD_ZONE = "zone";
+    public static final String FIELD_LAZY = "lazy";
+    public static final String FIELD_BATCH_SIZE = "batchSize";
+    public static final String FIELD_COLUMN_TYPE = "columnType";
+
+    static final String CONTROL_REQUIRED = "$required";
+    static final String FIELD_ROOT = "root";
+
+    private static final int MAX_CACHED_PLANS = 1024;
+    private static final int EVICTED_PLANS = MAX_CACHED_PLANS / 8;
+
+    private final MethodRegistry registry = new MethodRegistry();
+    private final AtomicBoolean configured = new AtomicBoolean();
+    private final Map<String, ApiMethodHandler> methodsView = new MethodsView();
+
+    /*
+      Compiled Plans, keyed on the content of the Convert Object they came
+      from. The clock ticks on each miss, and marks the Plans used since.
+     */
+    private final Map<PlanKey, CachedPlan> plans = new ConcurrentHashMap<>();
+    private final AtomicLong planClock = new AtomicLong();
+
+    private final Instrumentation instrumentation = new Instrumentation();
+    private final PlanContext planContext = new PlanContext(registry, instrumentation);
+    private volatile ConversionMetrics metrics;
+
+    private volatile Executor parallelExecutor = ForkJoinPool.commonPool();
+    private volatile int parallelThreshold = 1000;
+    private volatile int parallelChunkSize = 250;
 
-    private static final String CONTROL_REQUIRED = "$required";
-    private static final String FIELD_ROOT = "root";
+    /*
+      CONVERT_* mappings from ConfigProvider, replaced as a whole on reload
+     */
+    private volatile NamedMappings namedMappings = NamedMappings.EMPTY;
+    private final Object mappingLock = new Object();
+    private ScheduledExecutorService reloadExecutor;
+    private ScheduledFuture<?> reloadTask;
 
-    private final Map<String, ApiMethodHandler> methods = new HashMap<>();
+    private volatile Executor asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Semaphore asyncPermits = new Semaphore(256);
+    private volatile long asyncTimeoutNanos = Duration.ofSeconds(30).toNanos();
+
+    private volatile boolean collectViolations = false;
 
-    private static final JsonObjectParser jsonParser = new JsonObjectParser(true);
-    private static final JsonObjectWriter jsonWriter = new JsonObjectWriter(true);
 
     /*
-      Reverse Methods are used when reversing a Conversion Config object
+      Reverse Methods set directly, checked after the registry when reversing
+      a Conversion Config object
      */
     private final ApiObject reverseMethods = new ApiObject();
 
+    /**
+     * Registry of methods available to Convert Objects
+     *
+     * @return The Method Registry
+     */
+    public MethodRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Register a method, replacing any method with the same name
+     *
+     * @param name Name used in the method field of a Convert Object
+     * @param handler The method
+     */
+    public void register(String name, ApiMethodHandler handler) {
+        registry.register(name, handler);
+    }
+
+    /**
+     * Register a method along with the method that reverses it
+     *
+     * @param name Name of the forward method
+     * @param handler The forward method
+     * @param reverseName Name of the reverse method
+     * @param reverseHandler The reverse method
+     */
+    public void registerPair(String name, ApiMethodHandler handler, String reverseName, ApiMethodHandler reverseHandler) {
+        registry.registerPair(name, handler, reverseName, reverseHandler);
+    }
+
+    /**
+     * Cache the results of a registered method
+     *
+     * @param name Name of the method
+     * @param maxSize Most results kept, rounded up to a multiple of 16
+     * @param ttl How long a result is kept, or null to keep it until evicted
+     *
+     * @return The cache, for statistics
+     *
+     * @see MethodRegistry#cache(String, int, Duration)
+     */
+    public CachingMethodHandler cacheMethod(String name, int maxSize, Duration ttl) {
+        return registry.cache(name, maxSize, ttl);
+    }
+
+    /**
+     * Remove a method and its reverse mapping
+     *
+     * @param name Name of the method to remove
+     */
+    public void unregister(String name) {
+        registry.unregister(name);
+    }
+
+    /**
+     * @deprecated Use registerPair, or getRegistry().setReverse. Holds a copy
+     * of every pair in the registry, including the built in methods. Entries
+     * added here are only used as a fallback by reverseConvertObject, and are
+     * not thread safe.
+     *
+     * @return Reverse Methods
+     */
+    @Deprecated
     public ApiObject getReverseMethods() {
         return reverseMethods;
     }
 
+    /**
+     * @deprecated Use register, registerPair or getRegistry(). The returned
+     * map writes through to the registry.
+     *
+     * @return Map view of the Method Registry
+     */
+    @Deprecated
     public Map<String, ApiMethodHandler> getMethods() {
-        return methods;
+        return methodsView;
+    }
+
+    /**
+     * Return the compiled Plan for a Convert Object, compiling it on first use
+     *
+     * <p>
+     * Plans are cached on the content of convertObj, so an equal Convert
+     * Object built for each call shares one Plan, and a Convert Object
+     * changed after use gets a new one. Up to 1024 Plans are cached, dropping
+     * the least recently used.</p>
+     *
+     * @param convertObj Field Mapping used for Conversion
+     *
+     * @return The compiled Plan
+     */
+    public ConversionPlan getPlan(ApiObject convertObj) {
+        PlanKey key = PlanKey.lookup(convertObj);
+        CachedPlan cached = plans.get(key);
+
+        if (cached == null) {
+            PlanKey stored = key.copy();
+
+            cached = new CachedPlan(new ConversionPlan(stored.convertObj(), planContext), planClock.incrementAndGet());
+
+            CachedPlan existing = plans.putIfAbsent(stored, cached);
+
+            if (existing != null) {
+                cached = existing;
+            }
+
+            if (plans.size() > MAX_CACHED_PLANS) {
+                evictPlans();
+            }
+        } else {
+            long tick = planClock.get();
+
+            // Only written once per miss, so hits on a hot Plan do not contend
+            if (cached.used != tick) {
+                cached.used = tick;
+            }
+        }
+
+        return cached.plan;
+    }
+
+    /*
+      Drop the least recently used Plans, a batch at a time so the scan is
+      not repeated on every miss
+     */
+    private void evictPlans() {
+        synchronized (plans) {
+            if (plans.size() <= MAX_CACHED_PLANS) {
+                return;
+            }
+
+            List<Map.Entry<PlanKey, CachedPlan>> entries = new ArrayList<>(plans.entrySet());
+
+            entries.sort((a, b) -> Long.compare(a.getValue().used, b.getValue().used));
+
+            int count = Math.min(entries.size(), plans.size() - MAX_CACHED_PLANS + EVICTED_PLANS);
+
+            for (int i = 0; i < count; i++) {
+                plans.remove(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+
+            log.debug("Evicted {} least recently used Conversion Plans", count);
+        }
+    }
+
+    /**
+     * Most records passed to a BatchApiMethodHandler in one call, unless the
+     * field sets batchSize
+     *
+     * @param maxBatchSize Records per batch. Default: 500
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max Batch Size must be at least 1");
+        }
+
+        planContext.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Drop all compiled Plans
+     */
+    public void clearPlans() {
+        plans.clear();
+    }
+
+    /**
+     * Add a listener for conversion and method timings
+     *
+     * <p>
+     * While no listeners are registered, instrumentation is skipped
+     * entirely.</p>
+     *
+     * @param listener The listener to add
+     */
+    public void addConversionListener(ConversionListener listener) {
+        instrumentation.add(listener);
+    }
+
+    public void removeConversionListener(ConversionListener listener) {
+        instrumentation.remove(listener);
+    }
+
+    /**
+     * Start collecting ConversionMetrics, if not already started
+     *
+     * @return The metrics being collected
+     */
+    public synchronized ConversionMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new ConversionMetrics();
+
+            instrumentation.add(metrics);
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Stop collecting ConversionMetrics
+     */
+    public synchronized void disableMetrics() {
+        if (metrics != null) {
+            instrumentation.remove(metrics);
+
+            metrics = null;
+        }
+    }
+
+    /**
+     * The metrics being collected
+     *
+     * @return The metrics, or null if not enabled
+     */
+    public ConversionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Executor used by the Parallel conversions
+     *
+     * <p>
+     * Defaults to the common ForkJoinPool. A virtual thread executor can be
+     * used as well.</p>
+     *
+     * @param parallelExecutor Executor to run chunks of a root list on
+     */
+    public void setParallelExecutor(Executor parallelExecutor) {
+        this.parallelExecutor = parallelExecutor != null ? parallelExecutor : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Root lists smaller than this are converted on the calling thread
+     *
+     * @param parallelThreshold Minimum root list size to split, Default: 1000
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Number of records handed to each parallel task
+     *
+     * @param parallelChunkSize Records per chunk, Default: 250
+     */
+    public void setParallelChunkSize(int parallelChunkSize) {
+        if (parallelChunkSize < 1) {
+            throw new IllegalArgumentException("Chunk Size must be greater than 0");
+        }
+
+        this.parallelChunkSize = parallelChunkSize;
+    }
+
+    /**
+     * Executor that runs AsyncApiMethodHandler calls for convertObjectV2Async
+     *
+     * @param asyncExecutor Executor, Default: a virtual thread per call
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Most AsyncApiMethodHandler calls running at once, across every
+     * convertObjectV2Async call
+     *
+     * @param asyncConcurrency Calls at once, Default: 256
+     */
+    public void setAsyncConcurrency(int asyncConcurrency) {
+        if (asyncConcurrency < 1) {
+            throw new IllegalArgumentException("Async Concurrency must be greater than 0");
+        }
+
+        this.asyncPermits = new Semaphore(asyncConcurrency);
+    }
+
+    /**
+     * Time allowed for each AsyncApiMethodHandler call, including time waiting
+     * for the concurrency limit. A call that runs out of time fails with 504
+     *
+     * @param asyncTimeout Timeout per call, Default: 30 seconds
+     */
+    public void setAsyncTimeout(Duration asyncTimeout) {
+        this.asyncTimeoutNanos = asyncTimeout.toNanos();
+    }
+
+    /**
+     * Validate the whole subject before convertObjectV2 builds any output,
+     * reporting every violation at once
+     *
+     * <p>
+     * Applies to every entry point with convertObjectV2 semantics, including
+     * the parallel, async, fused, delta, columnar and streaming ones.
+     * Streams and columnar batches validate each record as it arrives, and a
+     * fused Plan validates against its first stage.</p>
+     *
+     * @param collectViolations true to throw an ApiValidationException with
+     * every violation, Default: false, which throws on the first failure
+     * while converting
+     */
+    public void setCollectViolations(boolean collectViolations) {
+        this.collectViolations = collectViolations;
+    }
+
+    /**
+     * Load the CONVERT_* mappings from ConfigProvider
+     *
+     * <p>
+     * Mappings that changed are compiled, forward and reversed, before the
+     * new set replaces the old one in a single write. Conversions already
+     * running finish with the Plans they started with.</p>
+     */
+    public void reloadMappings() {
+        synchronized (mappingLock) {
+            ConfigProvider provider = ConfigProvider.getInstance();
+            ApiObject config = provider != null ? provider.getConfig() : null;
+
+            namedMappings = NamedMappings.build(config, namedMappings, planContext, this::reverseConvertObject);
+        }
+    }
+
+    private void methodsChanged(String name) {
+        syncReverseMethods(name);
+
+        synchronized (mappingLock) {
+            namedMappings = namedMappings.methodChanged(name, planContext, this::reverseConvertObject);
+        }
+    }
+
+    /*
+      Mirror the registry's reverse pairs into the deprecated Reverse Methods
+     */
+    private void syncReverseMethods(String name) {
+        String reverse = registry.getReverse(name);
+
+        synchronized (reverseMethods) {
+            if (reverse != null) {
+                reverseMethods.setString(name, reverse);
+            } else if (registry.get(name) == null) {
+                reverseMethods.remove(name);
+
+                for (String key : new ArrayList<>(reverseMethods.keySet())) {
+                    if (name.equals(reverseMethods.getString(key)) && registry.getReverse(key) == null) {
+                        reverseMethods.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * How often to check ConfigProvider for changed mappings
+     *
+     * <p>
+     * Checks run on a background thread, stopped by {@link #close()}. Off by
+     * default, configure() only loads the mappings once.</p>
+     *
+     * @param interval Time between checks, null or zero to stop checking
+     */
+    public void setMappingReloadInterval(Duration interval) {
+        synchronized (mappingLock) {
+            if (reloadTask != null) {
+                reloadTask.cancel(false);
+                reloadTask = null;
+            }
+
+            if (interval == null || interval.isZero() || interval.isNegative()) {
+                return;
+            }
+
+            if (reloadExecutor == null) {
+                reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "ApiObjectConverter-reload");
+
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+            }
+
+            long millis = interval.toMillis();
+
+            reloadTask = reloadExecutor.scheduleWithFixedDelay(() -> {
+                try {
+                    reloadMappings();
+                } catch (RuntimeException rex) {
+                    log.error("Failed to reload Conversion Mappings, keeping the current Mappings", rex);
+                }
+            }, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop checking ConfigProvider for changed mappings, and release the
+     * background thread
+     *
+     * <p>
+     * The converter can still be used, and a new reload interval set.</p>
+     */
+    @Override
+    public void close() {
+        synchronized (mappingLock) {
+            if (reloadTask != null) {
+                reloadTask.cancel(false);
+                reloadTask = null;
+            }
+
+            if (reloadExecutor != null) {
+                reloadExecutor.shutdownNow();
+                reloadExecutor = null;
+            }
+        }
+    }
+
+    /**
+     * Names of the loaded CONVERT_* mappings
+     *
+     * @return Mapping names
+     */
+    public Set<String> getMappingNames() {
+        return namedMappings.names();
+    }
+
+    /**
+     * Compiled Plan for a mapping loaded from ConfigProvider
+     *
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     *
+     * @return The current Plan for the mapping
+     *
+     * @throws ApiException 404 if the mapping does not exist
+     */
+    public ConversionPlan getMapping(String mappingName) throws ApiException {
+        return mapping(mappingName).forward();
+    }
+
+    /**
+     * Compiled Plan for the reverse of a mapping loaded from ConfigProvider
+     *
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     *
+     * @return The current reversed Plan for the mapping
+     *
+     * @throws ApiException 404 if the mapping does not exist
+     */
+    public ConversionPlan getReverseMapping(String mappingName) throws ApiException {
+        return mapping(mappingName).reverse();
+    }
+
+    private NamedMappings.Mapping mapping(String mappingName) throws ApiException {
+        NamedMappings.Mapping mapping = namedMappings.get(mappingName);
+
+        if (mapping == null) {
+            throw new ApiException(404, String.format("Mapping <%s> Does Not Exist", mappingName));
+        }
+
+        return mapping;
     }
 
     public ApiObject reverseConvertObject(ApiObject convertObj) {
@@ -95,7 +607,7 @@ public class ApiObjectConverter implements ApiService {
                 objField.putAll(convertObj.getObject(field));
 
                 objField.setString(FIELD_FIELD, field);
-                objField.setString(FIELD_METHOD, reverseMethods.getString(convertObj.getString(field + FIELD_DOT_METHOD)));
+                objField.setString(FIELD_METHOD, reverseMethod(convertObj.getString(field + FIELD_DOT_METHOD)));
 
                 respObj.setObject(convertObj.getString(field + FIELD_DOT_FIELD), objField);
             }
@@ -104,6 +616,16 @@ public class ApiObjectConverter implements ApiService {
         return respObj;
     }
 
+    private String reverseMethod(String method) {
+        if (method == null) {
+            return null;
+        }
+
+        String reverse = registry.getReverse(method);
+
+        return reverse != null ? reverse : reverseMethods.getString(method);
+    }
+
     /**
      * Convert ApiObject with root list or Single using a Conversion Object
      *
@@ -133,23 +655,141 @@ public class ApiObjectConverter implements ApiService {
      * @throws ApiException
      */
     public ApiObject convertObject(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
-        if (subject != null) {
-            if (convertObj != null) {
-                if (subject.containsKey(FIELD_ROOT)) {
-                    ApiObject respObj = new ApiObject();
-
-                    respObj.createList(FIELD_ROOT);
-
-                    for (var entry : subject.getList(FIELD_ROOT)) {
-                        respObj.getList(FIELD_ROOT).add(convertSingle(entry, convertObj, includeAll));
-                    }
+        return convertObject(subject, convertObj != null ? getPlan(convertObj) : null, includeAll);
+    }
 
-                    return respObj;
-                } else {
-                    return convertSingle(subject, convertObj, includeAll);
-                }
-            } else {
-                log.warn("Convert Object was NULL");
+    /**
+     * Convert ApiObject with root list or Single using a mapping loaded from
+     * ConfigProvider
+     *
+     * <p>
+     * Defaults includeAll to false</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException 404 if the mapping does not exist
+     */
+    public ApiObject convertObject(ApiObject subject, String mappingName) throws ApiException {
+        return convertObject(subject, getMapping(mappingName), false);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a mapping loaded from
+     * ConfigProvider
+     *
+     * @param subject The subject to perform the conversion on
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException 404 if the mapping does not exist
+     */
+    public ApiObject convertObject(ApiObject subject, String mappingName, boolean includeAll) throws ApiException {
+        return convertObject(subject, getMapping(mappingName), includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single, returning only the fields of
+     * a projection
+     *
+     * <p>
+     * Fields outside the projection are not converted, so their methods are
+     * not called. The projected Plan is cached with the Plan.</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject in the
+     * projection
+     * @param projection Fields to return, null for all
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    public ApiObject convertObject(ApiObject subject, ApiObject convertObj, boolean includeAll, Projection projection) throws ApiException {
+        return convertObject(subject, convertObj != null ? project(getPlan(convertObj), projection) : null, includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a mapping loaded from
+     * ConfigProvider, returning only the fields of a projection
+     *
+     * @param subject The subject to perform the conversion on
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     * @param includeAll true/false Return ALL fields from subject in the
+     * projection
+     * @param projection Fields to return, null for all
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException 404 if the mapping does not exist
+     */
+    public ApiObject convertObject(ApiObject subject, String mappingName, boolean includeAll, Projection projection) throws ApiException {
+        return convertObject(subject, project(getMapping(mappingName), projection), includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a compiled Plan
+     *
+     * <p>
+     * Defaults includeAll to false</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param plan Compiled Field Mapping used for Conversion
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    public ApiObject convertObject(ApiObject subject, ConversionPlan plan) throws ApiException {
+        return convertObject(subject, plan, false);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a compiled Plan
+     *
+     * @param subject The subject to perform the conversion on
+     * @param plan Compiled Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    public ApiObject convertObject(ApiObject subject, ConversionPlan plan, boolean includeAll) throws ApiException {
+        ConversionListener listener = instrumentation.listener;
+
+        if (listener != null && subject != null && plan != null) {
+            return instrument(listener, plan.getName(), subject, () -> convertPlan(subject, plan, includeAll));
+        }
+
+        return convertPlan(subject, plan, includeAll);
+    }
+
+    private ApiObject convertPlan(ApiObject subject, ConversionPlan plan, boolean includeAll) throws ApiException {
+        if (subject != null) {
+            if (plan != null) {
+                if (subject.containsKey(FIELD_ROOT)) {
+                    ApiObject respObj = new ApiObject();
+
+                    respObj.createList(FIELD_ROOT);
+
+                    var respList = respObj.getList(FIELD_ROOT);
+
+                    for (var entry : subject.getList(FIELD_ROOT)) {
+                        respList.add(plan.convertSingle(entry, includeAll));
+                    }
+
+                    return respObj;
+                } else {
+                    return plan.convertSingle(subject, includeAll);
+                }
+            } else {
+                log.warn("Convert Object was NULL");
                 
                 return ApiObjectUtils.cloneApiObject(subject, null);
             }
@@ -159,256 +799,927 @@ public class ApiObjectConverter implements ApiService {
     }
 
     /**
-     * Convert a single ApiObject using a Conversion Object
+     * Convert ApiObject with root list or Single using a Conversion Object
+     *
+     * <p>
+     * NOTE: Iterates over convertObj instead of subject</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    public ApiObject convertObjectV2(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
+        return convertObjectV2(subject, convertObj != null ? getPlan(convertObj) : null, includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a mapping loaded from
+     * ConfigProvider
+     *
+     * @param subject The subject to perform the conversion on
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException 404 if the mapping does not exist
+     */
+    public ApiObject convertObjectV2(ApiObject subject, String mappingName, boolean includeAll) throws ApiException {
+        return convertObjectV2(subject, getMapping(mappingName), includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single, returning only the fields of
+     * a projection
+     *
+     * <p>
+     * NOTE: Iterates over convertObj instead of subject. Fields outside the
+     * projection are not converted, so their methods, defaults and
+     * validation do not run.</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject in the
+     * projection
+     * @param projection Fields to return, null for all
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    public ApiObject convertObjectV2(ApiObject subject, ApiObject convertObj, boolean includeAll, Projection projection) throws ApiException {
+        return convertObjectV2(subject, convertObj != null ? project(getPlan(convertObj), projection) : null, includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a mapping loaded from
+     * ConfigProvider, returning only the fields of a projection
+     *
+     * @param subject The subject to perform the conversion on
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     * @param includeAll true/false Return ALL fields from subject in the
+     * projection
+     * @param projection Fields to return, null for all
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException 404 if the mapping does not exist
+     */
+    public ApiObject convertObjectV2(ApiObject subject, String mappingName, boolean includeAll, Projection projection) throws ApiException {
+        return convertObjectV2(subject, project(getMapping(mappingName), projection), includeAll);
+    }
+
+    private static ConversionPlan project(ConversionPlan plan, Projection projection) {
+        return projection != null ? plan.project(projection) : plan;
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a compiled Plan
+     *
+     * <p>
+     * NOTE: Iterates over the Plan instead of subject</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param plan Compiled Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    public ApiObject convertObjectV2(ApiObject subject, ConversionPlan plan, boolean includeAll) throws ApiException {
+        ConversionListener listener = instrumentation.listener;
+
+        if (listener != null && subject != null && plan != null) {
+            return instrument(listener, plan.getName(), subject, () -> convertPlanV2(subject, plan, includeAll));
+        }
+
+        return convertPlanV2(subject, plan, includeAll);
+    }
+
+    private ApiObject convertPlanV2(ApiObject subject, ConversionPlan plan, boolean includeAll) throws ApiException {
+        if (subject != null) {
+            if (plan != null) {
+                if (collectViolations) {
+                    plan.getValidator().validate(subject, true);
+                }
+
+                if (subject.containsKey(FIELD_ROOT)) {
+                    ApiObject respObj = new ApiObject();
+
+                    respObj.createList(FIELD_ROOT);
+
+                    respObj.getList(FIELD_ROOT).addAll(plan.convertListV2(subject.getList(FIELD_ROOT), includeAll));
+
+                    return respObj;
+                } else {
+                    return plan.convertSingleV2(subject, includeAll);
+                }
+            } else {
+                return ApiObjectUtils.cloneApiObject(subject, null);
+            }
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Validate ApiObject with root list or Single against a Conversion Object,
+     * without converting it
+     *
+     * <p>
+     * Runs the required and type checks of convertObjectV2, counting defaults
+     * as the value of null fields. $required is only checked by
+     * convertObject. The subject is not changed.</p>
+     *
+     * @param subject The subject to validate
+     * @param convertObj Field Mapping used for Conversion
+     * @param collectAll true to report every violation, false to stop at the
+     * first
+     *
+     * @throws ApiException The first violation, or an ApiValidationException
+     * with every violation when collectAll is true
+     */
+    public void validate(ApiObject subject, ApiObject convertObj, boolean collectAll) throws ApiException {
+        validate(subject, getPlan(convertObj), collectAll);
+    }
+
+    /**
+     * Validate ApiObject with root list or Single against a mapping loaded
+     * from ConfigProvider, without converting it
+     *
+     * @param subject The subject to validate
+     * @param mappingName Name of the mapping, ie: CONVERT_CONTACT
+     * @param collectAll true to report every violation, false to stop at the
+     * first
+     *
+     * @throws ApiException 404 if the mapping does not exist, the first
+     * violation, or an ApiValidationException with every violation when
+     * collectAll is true
+     */
+    public void validate(ApiObject subject, String mappingName, boolean collectAll) throws ApiException {
+        validate(subject, getMapping(mappingName), collectAll);
+    }
+
+    /**
+     * Validate ApiObject with root list or Single against a compiled Plan,
+     * without converting it
+     *
+     * @param subject The subject to validate
+     * @param plan Compiled Field Mapping used for Conversion
+     * @param collectAll true to report every violation, false to stop at the
+     * first
+     *
+     * @throws ApiException The first violation, or an ApiValidationException
+     * with every violation when collectAll is true
+     */
+    public void validate(ApiObject subject, ConversionPlan plan, boolean collectAll) throws ApiException {
+        if (subject != null && plan != null) {
+            plan.getValidator().validate(subject, collectAll);
+        }
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a Conversion Object,
+     * running AsyncApiMethodHandler fields concurrently
+     *
+     * @param subject The subject to perform the conversion on
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return Completes with the Converted Object
+     *
+     * @see #convertObjectV2Async(ApiObject, ConversionPlan, boolean)
+     */
+    public CompletableFuture<ApiObject> convertObjectV2Async(ApiObject subject, ApiObject convertObj, boolean includeAll) {
+        return convertObjectV2Async(subject, convertObj != null ? getPlan(convertObj) : null, includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a compiled Plan,
+     * running AsyncApiMethodHandler fields concurrently
+     *
+     * <p>
+     * Same result as convertObjectV2, except async fields are added after the
+     * other fields of each record, in Convert Object order. The async methods
+     * of a record, and of every record in a root list, run at the same time
+     * on the Async Executor. The other fields are converted on the calling
+     * thread.</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param plan Compiled Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return Completes with the Converted Object, or exceptionally with the
+     * ApiException of the lowest failing record and field. For a root list
+     * this is an ApiConversionException with the index of the record
+     */
+    public CompletableFuture<ApiObject> convertObjectV2Async(ApiObject subject, ConversionPlan plan, boolean includeAll) {
+        AsyncApiMethodHandler[] handlers = subject != null && plan != null ? AsyncConversion.handlers(plan) : null;
+
+        if (handlers == null) {
+            try {
+                return CompletableFuture.completedFuture(convertObjectV2(subject, plan, includeAll));
+            } catch (ApiException apx) {
+                return CompletableFuture.failedFuture(apx);
+            }
+        }
+
+        ConversionListener listener = instrumentation.listener;
+        AsyncConversion conversion = new AsyncConversion(plan, handlers, includeAll, asyncExecutor, asyncPermits, asyncTimeoutNanos, listener);
+        boolean root = subject.containsKey(FIELD_ROOT);
+        long start = System.nanoTime();
+
+        CompletableFuture<List<ApiObject>> converted;
+
+        try {
+            if (collectViolations) {
+                plan.getValidator().validate(subject, true);
+            }
+
+            converted = conversion.convert(root ? subject.getList(FIELD_ROOT) : List.of(subject), root);
+        } catch (ApiException apx) {
+            converted = CompletableFuture.failedFuture(apx);
+        }
+
+        CompletableFuture<ApiObject> result = converted.thenApply(respList -> {
+            if (root) {
+                ApiObject respObj = new ApiObject();
+
+                respObj.createList(FIELD_ROOT);
+                respObj.getList(FIELD_ROOT).addAll(respList);
+
+                return respObj;
+            } else {
+                return respList.get(0);
+            }
+        });
+
+        if (listener != null) {
+            int records = root ? subject.getList(FIELD_ROOT).size() : 1;
+
+            result.whenComplete((respObj, thr) -> {
+                if (thr == null) {
+                    listener.conversionCompleted(plan.getName(), records, System.nanoTime() - start);
+                } else if (thr instanceof ApiException apx) {
+                    listener.conversionFailed(plan.getName(), apx, System.nanoTime() - start);
+                } else if (thr.getCause() instanceof ApiException apx) {
+                    listener.conversionFailed(plan.getName(), apx, System.nanoTime() - start);
+                }
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * Fuse Convert Objects applied one after another into a single pass
+     *
+     * @param convertObjs The mappings, in the order they are applied
+     *
+     * @return The fused Plan
+     *
+     * @throws ApiException 415 listing the fields that can not be fused
+     *
+     * @see #validateComposition(ApiObject...)
+     */
+    public FusedPlan compose(ApiObject... convertObjs) throws ApiException {
+        return compose(plansOf(convertObjs));
+    }
+
+    /**
+     * Fuse Plans applied one after another into a single pass
+     *
+     * @param plans The Plans, in the order they are applied
+     *
+     * @return The fused Plan
+     *
+     * @throws ApiException 415 listing the fields that can not be fused
+     */
+    public FusedPlan compose(ConversionPlan... plans) throws ApiException {
+        List<String> issues = new ArrayList<>();
+        FusedPlan fused = FusedPlan.compose(List.of(plans), issues);
+
+        if (fused == null) {
+            throw new ApiException(415, "Mappings Can Not Be Fused:\n" + String.join("\n", issues));
+        }
+
+        return fused;
+    }
+
+    /**
+     * Check whether Convert Objects can be fused with compose
+     *
+     * <p>
+     * Format: <code>{ fusable: true/false, issues: [ ... ] }</code>. Each
+     * issue names a field that reads something the previous stage does not
+     * write exactly once, such as a field it drops.</p>
+     *
+     * @param convertObjs The mappings, in the order they are applied
+     *
+     * @return The report
+     */
+    public ApiObject validateComposition(ApiObject... convertObjs) {
+        List<String> issues = new ArrayList<>();
+
+        FusedPlan.compose(List.of(plansOf(convertObjs)), issues);
+
+        ApiObject respObj = new ApiObject();
+
+        respObj.setBoolean("fusable", issues.isEmpty());
+        respObj.createStringArray("issues");
+        respObj.getStringArray("issues").addAll(issues);
+
+        return respObj;
+    }
+
+    private ConversionPlan[] plansOf(ApiObject[] convertObjs) {
+        ConversionPlan[] lclPlans = new ConversionPlan[convertObjs.length];
+
+        for (int i = 0; i < convertObjs.length; i++) {
+            lclPlans[i] = getPlan(convertObjs[i]);
+        }
+
+        return lclPlans;
+    }
+
+    /**
+     * Convert ApiObject with root list or Single using a fused Plan
+     *
+     * <p>
+     * Same result as calling convertObjectV2 with each stage in turn, with
+     * includeAll false.</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param plan Fused Plan from compose
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    public ApiObject convertObjectV2(ApiObject subject, FusedPlan plan) throws ApiException {
+        if (subject == null) {
+            return null;
+        }
+
+        ConversionListener listener = instrumentation.listener;
+
+        if (listener != null) {
+            return instrument(listener, plan.getName(), subject, () -> convertFused(subject, plan, listener));
+        }
+
+        return convertFused(subject, plan, null);
+    }
+
+    private ApiObject convertFused(ApiObject subject, FusedPlan plan, ConversionListener listener) throws ApiException {
+        if (collectViolations) {
+            plan.getValidator().validate(subject, true);
+        }
+
+        if (subject.containsKey(FIELD_ROOT)) {
+            ApiObject respObj = new ApiObject();
+
+            respObj.createList(FIELD_ROOT);
+
+            var respList = respObj.getList(FIELD_ROOT);
+
+            for (var entry : subject.getList(FIELD_ROOT)) {
+                respList.add(plan.convertSingle(entry, listener));
+            }
+
+            return respObj;
+        } else {
+            return plan.convertSingle(subject, listener);
+        }
+    }
+
+    /**
+     * Convert ApiObject with root list in parallel using a Conversion Object
+     *
+     * <p>
+     * Same result as convertObject. The root list is split into chunks and
+     * converted on the Parallel Executor, unless it is smaller than the
+     * Parallel Threshold.</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object, root list in the original order
+     *
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record
+     */
+    public ApiObject convertObjectParallel(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
+        return convertObjectParallel(subject, convertObj != null ? getPlan(convertObj) : null, includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list in parallel using a compiled Plan
+     *
+     * @param subject The subject to perform the conversion on
+     * @param plan Compiled Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object, root list in the original order
+     *
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record
+     */
+    public ApiObject convertObjectParallel(ApiObject subject, ConversionPlan plan, boolean includeAll) throws ApiException {
+        if (plan != null && isParallel(subject)) {
+            ConversionListener listener = instrumentation.listener;
+
+            if (listener != null) {
+                return instrument(listener, plan.getName(), subject, () -> convertRootParallel(subject, entry -> plan.convertSingle(entry, includeAll)));
+            }
+
+            return convertRootParallel(subject, entry -> plan.convertSingle(entry, includeAll));
+        } else {
+            return convertObject(subject, plan, includeAll);
+        }
+    }
+
+    /**
+     * Convert ApiObject with root list in parallel using a Conversion Object
+     *
+     * <p>
+     * Same result as convertObjectV2. The root list is split into chunks and
+     * converted on the Parallel Executor, unless it is smaller than the
+     * Parallel Threshold.</p>
+     *
+     * @param subject The subject to perform the conversion on
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object, root list in the original order
+     *
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record
+     */
+    public ApiObject convertObjectV2Parallel(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
+        return convertObjectV2Parallel(subject, convertObj != null ? getPlan(convertObj) : null, includeAll);
+    }
+
+    /**
+     * Convert ApiObject with root list in parallel using a compiled Plan
+     *
+     * @param subject The subject to perform the conversion on
+     * @param plan Compiled Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object, root list in the original order
+     *
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record
+     */
+    public ApiObject convertObjectV2Parallel(ApiObject subject, ConversionPlan plan, boolean includeAll) throws ApiException {
+        if (plan != null && isParallel(subject)) {
+            ConversionListener listener = instrumentation.listener;
+
+            if (listener != null) {
+                return instrument(listener, plan.getName(), subject, () -> convertPlanV2Parallel(subject, plan, includeAll));
+            }
+
+            return convertPlanV2Parallel(subject, plan, includeAll);
+        } else {
+            return convertObjectV2(subject, plan, includeAll);
+        }
+    }
+
+    private ApiObject convertPlanV2Parallel(ApiObject subject, ConversionPlan plan, boolean includeAll) throws ApiException {
+        if (collectViolations) {
+            plan.getValidator().validate(subject, true);
+        }
+
+        return convertRootParallel(subject, entry -> plan.convertSingleV2(entry, includeAll));
+    }
+
+    /**
+     * Time a conversion and report it to the listener
+     */
+    private ApiObject instrument(ConversionListener listener, String mapping, ApiObject subject, Conversion conversion) throws ApiException {
+        long start = System.nanoTime();
+        ApiObject respObj;
+
+        try {
+            respObj = conversion.run();
+        } catch (ApiException apx) {
+            listener.conversionFailed(mapping, apx, System.nanoTime() - start);
+
+            throw apx;
+        }
+
+        int records = subject.getType(FIELD_ROOT) == ApiObject.TYPE_ARRAYLIST ? subject.getList(FIELD_ROOT).size() : 1;
+
+        listener.conversionCompleted(mapping, records, System.nanoTime() - start);
+
+        return respObj;
+    }
+
+    @FunctionalInterface
+    private interface Conversion {
+
+        ApiObject run() throws ApiException;
+    }
+
+    private boolean isParallel(ApiObject subject) {
+        return subject != null
+                && subject.getType(FIELD_ROOT) == ApiObject.TYPE_ARRAYLIST
+                && subject.getList(FIELD_ROOT).size() >= parallelThreshold;
+    }
+
+    private ApiObject convertRootParallel(ApiObject subject, RecordConverter converter) throws ApiException {
+        ApiObject respObj = new ApiObject();
+
+        respObj.createList(FIELD_ROOT);
+
+        respObj.getList(FIELD_ROOT).addAll(
+                ParallelConversion.convert(subject.getList(FIELD_ROOT), converter, parallelExecutor, parallelChunkSize)
+        );
+
+        return respObj;
+    }
+
+    /**
+     * Convert only the fields that changed since the previous version of the
+     * subject, using convertObjectV2 semantics
+     *
+     * <p>
+     * Fields whose source value is the same in both versions are skipped, so
+     * their methods are not called. Validation runs for every field.</p>
+     *
+     * @param subject The new version of the subject
+     * @param previous The previous version of the subject
+     * @param convertObj Field Mapping used for Conversion
+     *
+     * @return Converted changed fields, and their names
+     *
+     * @throws ApiException
+     */
+    public DeltaResult convertDelta(ApiObject subject, ApiObject previous, ApiObject convertObj) throws ApiException {
+        ConversionPlan plan = getPlan(convertObj);
+
+        if (collectViolations) {
+            plan.getValidator().validate(subject, true);
+        }
+
+        return DeltaConversion.fromSubject(plan, subject, previous != null ? previous : new ApiObject(), instrumentation.listener);
+    }
+
+    /**
+     * Convert the subject and keep only the fields that differ from the
+     * previous converted record, ie: the row read from the database
+     *
+     * <p>
+     * Every method runs, since its result is needed for the comparison. Use
+     * {@link #convertDelta(ApiObject, ApiObject, ApiObject)} when the previous
+     * subject is available.</p>
+     *
+     * @param subject The new version of the subject
+     * @param previousTarget The previous converted record
+     * @param convertObj Field Mapping used for Conversion
+     *
+     * @return Converted changed fields, and their names
+     *
+     * @throws ApiException
+     */
+    public DeltaResult convertDeltaFromTarget(ApiObject subject, ApiObject previousTarget, ApiObject convertObj) throws ApiException {
+        ConversionPlan plan = getPlan(convertObj);
+
+        if (collectViolations) {
+            plan.getValidator().validate(subject, true);
+        }
+
+        return DeltaConversion.fromTarget(plan, subject, previousTarget != null ? previousTarget : new ApiObject());
+    }
+
+    /**
+     * Columns produced by a columnar conversion of a Convert Object
+     *
+     * @param convertObj Field Mapping used for Conversion
+     *
+     * @return The column names and types
+     */
+    public ColumnSchema getColumnSchema(ApiObject convertObj) {
+        return getPlan(convertObj).getColumnar().getSchema();
+    }
+
+    /**
+     * Convert ApiObject with root list or Single into columns using
+     * convertObjectV2 semantics
+     *
+     * @param subject The subject to perform the conversion on
+     * @param convertObj Field Mapping used for Conversion
+     *
+     * @return Every record in a single ColumnBatch
+     *
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record
+     *
+     * @see #convertColumnar(Iterator, ApiObject, int, Consumer)
+     */
+    public ColumnBatch convertColumnar(ApiObject subject, ApiObject convertObj) throws ApiException {
+        List<ApiObject> entries = subject.containsKey(FIELD_ROOT) ? subject.getList(FIELD_ROOT) : List.of(subject);
+        ColumnBatch[] respBatch = new ColumnBatch[1];
+
+        convertColumnar(entries.iterator(), convertObj, Math.max(1, entries.size()), batch -> respBatch[0] = batch);
+
+        return respBatch[0] != null ? respBatch[0] : new ColumnBatch(getColumnSchema(convertObj), 0, 0);
+    }
+
+    /**
+     * Convert records into columns using convertObjectV2 semantics, in
+     * batches of a fixed size
+     *
+     * <p>
+     * Columns are the target fields, in Convert Object order. int, long and
+     * boolean columns are stored in primitive arrays, based on
+     * <code>columnType</code> (int, long, boolean, object), then the method
+     * (boolToInt, intToBool), then <code>type</code>. Each full batch is
+     * passed to the consumer as soon as it is converted, so only one batch is
+     * held at a time.</p>
+     *
+     * @param source Records to convert
+     * @param convertObj Field Mapping used for Conversion
+     * @param batchSize Rows per batch
+     * @param consumer Receives each batch, the last may be smaller
+     *
+     * @return Number of records converted
+     *
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record, or 415 if a value does not fit its column type
+     */
+    public long convertColumnar(Iterator<ApiObject> source, ApiObject convertObj, int batchSize, Consumer<ColumnBatch> consumer) throws ApiException {
+        if (convertObj == null) {
+            throw new ApiException(415, "Convert Object was NULL");
+        }
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch Size must be greater than 0");
+        }
+
+        ConversionPlan plan = getPlan(convertObj);
+        ColumnarConversion columnar = plan.getColumnar();
+        Validator validator = collectViolations ? plan.getValidator() : null;
+        ConversionListener listener = instrumentation.listener;
+        ApiObject scratch = new ApiObject();
+        ColumnBatch batch = null;
+        long count = 0;
+        long start = System.nanoTime();
+
+        while (source.hasNext()) {
+            if (batch == null) {
+                batch = new ColumnBatch(columnar.getSchema(), batchSize, count);
+            }
+
+            try {
+                ApiObject entry = source.next();
+
+                if (validator != null) {
+                    validator.validate(entry, true);
+                }
+
+                columnar.convertRow(entry, batch, scratch, listener);
+            } catch (ApiException apx) {
+                ApiConversionException cvx = new ApiConversionException((int) count, apx);
+
+                if (listener != null) {
+                    listener.conversionFailed(plan.getName(), cvx, System.nanoTime() - start);
+                }
+
+                throw cvx;
+            }
+
+            count++;
+
+            if (batch.isFull()) {
+                consumer.accept(batch);
+                batch = null;
+            }
+        }
+
+        if (batch != null) {
+            consumer.accept(batch);
+        }
+
+        if (listener != null) {
+            listener.conversionCompleted(plan.getName(), (int) Math.min(count, Integer.MAX_VALUE), System.nanoTime() - start);
+        }
+
+        return count;
+    }
+
+    /**
+     * Lazily convert records from an Iterator using convertObject semantics
+     *
+     * <p>
+     * Records are converted as they are requested, so only the current record
+     * is held. Conversion failures are thrown from next() as an
+     * UncheckedApiException.</p>
+     *
+     * @param source Records to convert
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return Iterator of Converted Objects
+     */
+    public Iterator<ApiObject> convertIterator(Iterator<ApiObject> source, ApiObject convertObj, boolean includeAll) {
+        return StreamingConversion.iterator(source, recordConverter(convertObj, includeAll, false));
+    }
+
+    /**
+     * Lazily convert records from an Iterator using convertObjectV2 semantics
+     *
+     * @param source Records to convert
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return Iterator of Converted Objects
+     */
+    public Iterator<ApiObject> convertIteratorV2(Iterator<ApiObject> source, ApiObject convertObj, boolean includeAll) {
+        return StreamingConversion.iterator(source, recordConverter(convertObj, includeAll, true));
+    }
+
+    /**
+     * Lazily convert records from a Stream using convertObject semantics
+     *
+     * <p>
+     * Conversion failures are thrown as an UncheckedApiException by the
+     * terminal operation.</p>
+     *
+     * @param source Records to convert
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return Stream of Converted Objects
+     */
+    public Stream<ApiObject> convertStream(Stream<ApiObject> source, ApiObject convertObj, boolean includeAll) {
+        RecordConverter converter = recordConverter(convertObj, includeAll, false);
+
+        return source.map(entry -> StreamingConversion.convert(converter, entry));
+    }
+
+    /**
+     * Lazily convert records from a Stream using convertObjectV2 semantics
      *
-     * @param subject The subject to perform the conversion on
+     * @param source Records to convert
      * @param convertObj Field Mapping used for Conversion
      * @param includeAll true/false Return ALL fields from subject
      *
-     * @return The Converted Object
-     *
-     * @throws ApiException
+     * @return Stream of Converted Objects
      */
-    private ApiObject convertSingle(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
-        ApiObject respObj = new ApiObject();
-
-        if (convertObj.getType(CONTROL_REQUIRED) == ApiObject.TYPE_STRINGARRAY) {
-            StringBuilder sbErr = new StringBuilder();
-
-            for (String entry : convertObj.getStringArray(CONTROL_REQUIRED)) {
-                if (!subject.isSet(entry)) {
-                    if (!sbErr.isEmpty()) {
-                        sbErr.append("\n");
-                    }
-
-                    sbErr.append(entry).append(" IS REQUIRED");
-                }
-            }
-
-            if (!sbErr.isEmpty()) {
-                throw new ApiException(400, sbErr.toString());
-            }
-        }
-
-        for (String subjectFld : subject.keySet()) {
-            if (convertObj.getType(subjectFld) == ApiObject.TYPE_STRING) {
-                setField(respObj, convertObj.getString(subjectFld), subject.get(subjectFld));
-            } else if (convertObj.getType(subjectFld) == ApiObject.TYPE_OBJECT) {
-                var toMethod = convertObj.getString(subjectFld + FIELD_DOT_METHOD);
+    public Stream<ApiObject> convertStreamV2(Stream<ApiObject> source, ApiObject convertObj, boolean includeAll) {
+        RecordConverter converter = recordConverter(convertObj, includeAll, true);
 
-                if (toMethod != null) {
-                    if (methods.containsKey(toMethod)) {
-                        methods.get(toMethod).process(subject, respObj, subjectFld, convertObj.getObject(subjectFld));
-                    } else {
-                        throw new ApiException(415, String.format("Method <%s> for Field <%s> Does Not Exist", toMethod, subjectFld));
-                    }
-                }
-            } else if (includeAll) {
-                if ("orderBy".equals(subjectFld)) {
-                    respObj.createStringArray(subjectFld);
-
-                    for (var orderEntry : subject.getStringArray("orderBy")) {
-                        boolean minusExists = false;
-                        String lclOrderEntry = orderEntry;
-                        String replaceEntry;
-
-                        if (orderEntry.startsWith("-")) {
-                            lclOrderEntry = orderEntry.substring(1);
-                            minusExists = true;
-                        }
-
-                        if (convertObj.getType(lclOrderEntry) == ApiObject.TYPE_OBJECT) {
-                            replaceEntry = convertObj.getString(lclOrderEntry + FIELD_DOT_FIELD);
-                        } else {
-                            replaceEntry = convertObj.getString(lclOrderEntry);
-                        }
-
-                        if (minusExists) {
-                            replaceEntry = "-" + replaceEntry;
-                        }
+        return source.map(entry -> StreamingConversion.convert(converter, entry));
+    }
 
-                        respObj.getStringArray(subjectFld).add(replaceEntry);
-                    }
-                } else {
-                    respObj.put(subjectFld, subject.get(subjectFld));
-                }
-            }
-        }
+    /**
+     * Convert records from a Publisher using convertObject semantics
+     *
+     * <p>
+     * A conversion failure cancels the source and is passed to onError as the
+     * original ApiException. A subscriber that throws from onNext has its
+     * subscription cancelled, and gets no further signals.</p>
+     *
+     * @param source Records to convert
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return Publisher of Converted Objects
+     */
+    public Flow.Publisher<ApiObject> convertPublisher(Flow.Publisher<ApiObject> source, ApiObject convertObj, boolean includeAll) {
+        return StreamingConversion.publisher(source, recordConverter(convertObj, includeAll, false));
+    }
 
-        return respObj;
+    /**
+     * Convert records from a Publisher using convertObjectV2 semantics
+     *
+     * @param source Records to convert
+     * @param convertObj Field Mapping used for Conversion
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return Publisher of Converted Objects
+     */
+    public Flow.Publisher<ApiObject> convertPublisherV2(Flow.Publisher<ApiObject> source, ApiObject convertObj, boolean includeAll) {
+        return StreamingConversion.publisher(source, recordConverter(convertObj, includeAll, true));
     }
 
     /**
-     * Convert ApiObject with root list or Single using a Conversion Object
+     * Convert a JSON Array of Objects to a JSON Array using convertObject
+     * semantics
      *
      * <p>
-     * NOTE: Iterates over convertObj instead of subject</p>
+     * Elements are parsed, converted and written one at a time.</p>
      *
-     * @param subject The subject to perform the conversion on
+     * @param in JSON Array to read
+     * @param out Where to write the converted JSON Array
      * @param convertObj Field Mapping used for Conversion
      * @param includeAll true/false Return ALL fields from subject
      *
-     * @return The Converted Object
+     * @return Number of records converted
      *
-     * @throws ApiException
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record
      */
-    public ApiObject convertObjectV2(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
-        if (subject != null) {
-            if (convertObj != null) {
-                if (subject.containsKey(FIELD_ROOT)) {
-                    ApiObject respObj = new ApiObject();
-
-                    respObj.createList(FIELD_ROOT);
-
-                    for (var entry : subject.getList(FIELD_ROOT)) {
-                        respObj.getList(FIELD_ROOT).add(convertSingleV2(entry, convertObj, includeAll));
-                    }
-
-                    return respObj;
-                } else {
-                    return convertSingleV2(subject, convertObj, includeAll);
-                }
-            } else {
-                return ApiObjectUtils.cloneApiObject(subject, null);
-            }
-        } else {
-            return null;
-        }
+    public long convertJsonArray(Reader in, Writer out, ApiObject convertObj, boolean includeAll) throws ApiException {
+        return convertJsonArray(in, out, recordConverter(convertObj, includeAll, false));
     }
 
     /**
-     * Convert a single ApiObject using a Conversion Object
+     * Convert a JSON Array of Objects to a JSON Array using convertObjectV2
+     * semantics
      *
-     * @param subject The subject to perform the conversion on
+     * @param in JSON Array to read
+     * @param out Where to write the converted JSON Array
      * @param convertObj Field Mapping used for Conversion
      * @param includeAll true/false Return ALL fields from subject
      *
-     * @return The Converted Object
+     * @return Number of records converted
      *
-     * @throws ApiException
+     * @throws ApiException ApiConversionException with the index of the
+     * failing record
      */
-    private ApiObject convertSingleV2(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
-        ApiObject respObj = new ApiObject();
+    public long convertJsonArrayV2(Reader in, Writer out, ApiObject convertObj, boolean includeAll) throws ApiException {
+        return convertJsonArray(in, out, recordConverter(convertObj, includeAll, true));
+    }
 
-        for (String convertFld : convertObj.keySet()) {
-            if (convertObj.getType(convertFld) == ApiObject.TYPE_STRING) {
-                setField(respObj, convertObj.getString(convertFld), subject.get(convertFld));
-            } else if (convertObj.getType(convertFld) == ApiObject.TYPE_OBJECT) {
-                ApiObject convert = convertObj.getObject(convertFld);
-                String intFld = convertFld; // Internal Field for use if # is present
+    private long convertJsonArray(Reader in, Writer out, RecordConverter converter) throws ApiException {
+        JsonArrayReader arrayReader = new JsonArrayReader(in);
+        long count = 0;
 
-                if (intFld.contains("#")) {
-                    intFld = intFld.substring(0, intFld.indexOf("#"));
-                }
+        try {
+            out.write('[');
 
-                var toMethod = convert.getString(FIELD_METHOD);
+            CharSequence element;
 
-                if (convert.isSet("default") && subject.getType(intFld) == ApiObject.TYPE_NULL) {
-                    subject.put(intFld, convert.get("default"));
-                }
+            while ((element = arrayReader.next()) != null) {
+                ApiObject converted;
 
-                if (convert.isSet("required") && subject.isNull(intFld)) {
-                    throw new ApiException(415, intFld + " IS Required");
+                try {
+                    converted = converter.convert(JsonCodec.read(element));
+                } catch (ApiException apx) {
+                    throw new ApiConversionException((int) count, apx);
                 }
 
-                if (convert.isSet(FIELD_TYPE) && !validateFieldType(intFld, convert.getString(FIELD_TYPE), subject)) {
-                    throw new ApiException(415, intFld + " Expected Type " + convert.getString(FIELD_TYPE));
+                if (count > 0) {
+                    out.write(',');
                 }
 
-                if (toMethod != null) {
-                    if (methods.containsKey(toMethod)) {
-                        methods.get(toMethod).process(subject, respObj, intFld, convert);
-                    } else {
-                        throw new ApiException(415, String.format("Method <%s> for Field <%s> Does Not Exist", toMethod, intFld));
-                    }
-                } else {
-                    if (convert.getString(FIELD_FIELD).contains(".")) {
-                        String[] fldSplit = convert.getString(FIELD_FIELD).split("\\.");
+                out.write(JsonCodec.write(converted));
 
-                        ApiObject objSub = respObj.getObject(fldSplit[0]);
+                count++;
+            }
 
-                        if (objSub == null) {
-                            objSub = respObj.createObject(fldSplit[0]);
-                        }
+            out.write(']');
+            out.flush();
+        } catch (IOException io) {
+            throw new ApiException(500, "Error Streaming JSON Array: " + io.getMessage());
+        }
 
-                        objSub.put(fldSplit[1], subject.get(intFld));
-                    } else {
-                        respObj.put(convert.getString(FIELD_FIELD), subject.get(intFld));
-                    }
-                }
-            } else if (includeAll) {
-                if ("orderBy".equals(convertFld)) {
-                    respObj.createStringArray(convertFld);
-
-                    for (var orderEntry : subject.getStringArray("orderBy")) {
-                        boolean minusExists = false;
-                        String lclOrderEntry = orderEntry;
-                        String replaceEntry;
-
-                        if (orderEntry.startsWith("-")) {
-                            lclOrderEntry = orderEntry.substring(1);
-                            minusExists = true;
-                        }
+        return count;
+    }
 
-                        if (convertObj.getType(lclOrderEntry) == ApiObject.TYPE_OBJECT) {
-                            replaceEntry = convertObj.getString(lclOrderEntry + FIELD_DOT_FIELD);
-                        } else {
-                            replaceEntry = convertObj.getString(lclOrderEntry);
-                        }
+    private RecordConverter recordConverter(ApiObject convertObj, boolean includeAll, boolean v2) {
+        if (convertObj == null) {
+            return entry -> ApiObjectUtils.cloneApiObject(entry, null);
+        }
 
-                        if (minusExists) {
-                            replaceEntry = "-" + replaceEntry;
-                        }
+        ConversionPlan plan = getPlan(convertObj);
 
-                        respObj.getStringArray(convertFld).add(replaceEntry);
-                    }
-                } else {
-                    respObj.put(convertFld, subject.get(convertFld));
-                }
-            }
-        }
+        if (v2 && collectViolations) {
+            Validator validator = plan.getValidator();
 
-        return respObj;
-    }
+            return entry -> {
+                validator.validate(entry, true);
 
-    private boolean validateFieldType(String fld, String typeString, ApiObject subject) {
-        return switch (typeString) {
-            case "string" ->
-                subject.getType(fld) == ApiObject.TYPE_STRING;
-            case "integer" ->
-                subject.getType(fld) == ApiObject.TYPE_INTEGER;
-            case "long" ->
-                subject.getType(fld) == ApiObject.TYPE_LONG;
-            case "object" ->
-                subject.getType(fld) == ApiObject.TYPE_OBJECT;
-            case "boolean" ->
-                subject.getType(fld) == ApiObject.TYPE_BOOLEAN;
-            case "arraylist" ->
-                subject.getType(fld) == ApiObject.TYPE_ARRAYLIST;
-            case "stringarray" ->
-                subject.getType(fld) == ApiObject.TYPE_STRINGARRAY;
-
-            default ->
-                false;
-        };
+                return plan.convertSingleV2(entry, includeAll);
+            };
+        } else if (v2) {
+            return entry -> plan.convertSingleV2(entry, includeAll);
+        } else {
+            return entry -> plan.convertSingle(entry, includeAll);
+        }
     }
 
     /**
      * Process object notation or set field
      * 
      * @param to Object to write to
-     * @param fieldName Process dot notation for objects, or standard fields
+     * @param fieldName Process dot notation for objects, ie: address.city or
+     * items[0].sku, or standard fields
      * @param value the value to sets
+     *
+     * @see FieldPath
      */
     public void setField(ApiObject to, String fieldName, Object value) {
-        if (fieldName.contains(".")) {
-            String[] sName = fieldName.split("\\.");
-
-            if (to.getType(sName[0]) != ApiObject.TYPE_OBJECT) {
-                to.createObject(sName[0]);
-            }
-
-            to.getObject(sName[0]).put(sName[1], value);
+        if (FieldPath.isPath(fieldName)) {
+            FieldPath.of(fieldName).write(to, value);
         } else {
             to.put(fieldName, value);
         }
@@ -416,7 +1727,7 @@ public class ApiObjectConverter implements ApiService {
 
     private String parseObjectToJson(ApiObject subject) {
         try {
-            return jsonWriter.writeSingle(subject);
+            return JsonCodec.write(subject);
         } catch (ApiException apx) {
             log.error("Error Parsing ApiObject", apx);
             return null;
@@ -425,8 +1736,8 @@ public class ApiObjectConverter implements ApiService {
 
     private ApiObject parseJsonToObject(String subject) {
         try {
-            return jsonParser.parseSingle(new StringReader(subject));
-        } catch (ApiException | ApiClassNotFoundException apx) {
+            return JsonCodec.read(subject);
+        } catch (ApiException apx) {
             log.error("Error Parsing ApiObject", apx);
             return null;
         }
@@ -435,13 +1746,19 @@ public class ApiObjectConverter implements ApiService {
     /**
      * Convert Object to JSON String
      *
+     * <p>
+     * An unmodified LazyJson is written as its original text.</p>
+     *
      * @param from
      * @param to
      * @param fieldFrom
      * @param processObj
+     * @throws ApiException
      */
     private void json2String(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
-        if (from.getType(fieldFrom) != ApiObject.TYPE_NULL) {
+        if (from.get(fieldFrom) instanceof LazyJson lazy && !lazy.isModified()) {
+            setField(to, processObj.getString(FIELD_FIELD), lazy.getText());
+        } else if (from.getType(fieldFrom) != ApiObject.TYPE_NULL) {
             if (from.getType(fieldFrom) == ApiObject.TYPE_OBJECT) {
                 setField(to, processObj.getString(FIELD_FIELD), parseObjectToJson(from.getObject(fieldFrom)));
             } else {
@@ -453,6 +1770,10 @@ public class ApiObjectConverter implements ApiService {
     /**
      * Convert JSON String to Object
      *
+     * <p>
+     * With <code>lazy: true</code> the field is set to a LazyJson, an
+     * ApiObject that is only parsed when it is read.</p>
+     *
      * @param from
      * @param to
      * @param fieldFrom
@@ -462,13 +1783,123 @@ public class ApiObjectConverter implements ApiService {
     private void string2Json(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
         if (from.getType(fieldFrom) != ApiObject.TYPE_NULL) {
             if (from.getType(fieldFrom) == ApiObject.TYPE_STRING) {
-                setField(to, processObj.getString(FIELD_FIELD), parseJsonToObject(from.getString(fieldFrom)));
+                if (processObj.isSet(FIELD_LAZY)) {
+                    setField(to, processObj.getString(FIELD_FIELD), new LazyJson(from.getString(fieldFrom)));
+                } else {
+                    setField(to, processObj.getString(FIELD_FIELD), parseJsonToObject(from.getString(fieldFrom)));
+                }
             } else {
                 throw new ApiException(410, String.format("Field<%s>: MUST be a String", fieldFrom));
             }
         }
     }
 
+    /**
+     * Convert Object to UTF-8 JSON byte[]
+     *
+     * @param from
+     * @param to
+     * @param fieldFrom
+     * @param processObj
+     * @throws ApiException
+     */
+    private void json2Bytes(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
+        Object value = from.get(fieldFrom);
+
+        if (value instanceof ApiObject obj) {
+            byte[] bytes;
+
+            try {
+                bytes = JsonCodec.writeBytes(obj);
+            } catch (ApiException apx) {
+                log.error("Error Parsing ApiObject", apx);
+                bytes = null;
+            }
+
+            setField(to, processObj.getString(FIELD_FIELD), bytes);
+        } else if (value != null) {
+            throw new ApiException(410, String.format("Field<%s>: MUST be an Object", fieldFrom));
+        }
+    }
+
+    /**
+     * Convert UTF-8 JSON byte[] or ByteBuffer to Object, without building a
+     * String
+     *
+     * @param from
+     * @param to
+     * @param fieldFrom
+     * @param processObj
+     * @throws ApiException
+     */
+    private void bytes2Json(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
+        Object value = from.get(fieldFrom);
+
+        if (value instanceof byte[] || value instanceof ByteBuffer) {
+            ApiObject obj;
+
+            try {
+                obj = value instanceof byte[] bytes ? JsonCodec.read(bytes) : JsonCodec.read((ByteBuffer) value);
+            } catch (ApiException apx) {
+                log.error("Error Parsing ApiObject", apx);
+                obj = null;
+            }
+
+            setField(to, processObj.getString(FIELD_FIELD), obj);
+        } else if (value != null) {
+            throw new ApiException(410, String.format("Field<%s>: MUST be a byte[]", fieldFrom));
+        }
+    }
+
+    /**
+     * Convert Object to a compact binary byte[]
+     *
+     * <p>
+     * Keeps every ApiObject type, with keys written once per value.</p>
+     *
+     * @param from
+     * @param to
+     * @param fieldFrom
+     * @param processObj
+     * @throws ApiException
+     */
+    private void object2Binary(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
+        Object value = from.get(fieldFrom);
+
+        if (value instanceof ApiObject obj) {
+            try {
+                setField(to, processObj.getString(FIELD_FIELD), BinaryCodec.encode(obj));
+            } catch (IllegalArgumentException iae) {
+                throw new ApiException(410, String.format("Field<%s>: %s", fieldFrom, iae.getMessage()));
+            }
+        } else if (value != null) {
+            throw new ApiException(410, String.format("Field<%s>: MUST be an Object", fieldFrom));
+        }
+    }
+
+    /**
+     * Convert a byte[] from object2Binary to Object
+     *
+     * @param from
+     * @param to
+     * @param fieldFrom
+     * @param processObj
+     * @throws ApiException
+     */
+    private void binary2Object(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
+        Object value = from.get(fieldFrom);
+
+        if (value instanceof byte[] bytes) {
+            try {
+                setField(to, processObj.getString(FIELD_FIELD), BinaryCodec.decode(bytes));
+            } catch (IllegalArgumentException iae) {
+                throw new ApiException(410, String.format("Field<%s>: Invalid Binary Object, %s", fieldFrom, iae.getMessage()));
+            }
+        } else if (value != null) {
+            throw new ApiException(410, String.format("Field<%s>: MUST be a byte[]", fieldFrom));
+        }
+    }
+
     private void convertFieldToBoolean(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
         switch (from.getType(fieldFrom)) {
             case ApiObject.TYPE_INTEGER -> {
@@ -500,28 +1931,192 @@ public class ApiObjectConverter implements ApiService {
         }
     }
 
+    /**
+     * Convert String to DateTime
+     *
+     * <p>
+     * Uses ISO-8601 unless format is set in processObj. zone is used for
+     * values without an offset, UTC if not set.</p>
+     */
     private void convertStringToDate(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
         if (from.getType(fieldFrom) == ApiObject.TYPE_STRING) {
             String strFrom = from.getString(fieldFrom);
+            String format = processObj.getString(FIELD_FORMAT);
+            ZoneId zoneId = dateZone(processObj);
+            OffsetDateTime dteFrom;
 
-            if (strFrom.length() == 10) {
-                // Expected format 2025-05-02 yyyy-MM-dd add rest of string
-                strFrom += "T00:00:00.000Z";
-            }
+            if (format != null) {
+                DateTimeFormatter fmt = DateCodec.formatter(format);
 
-            try {
-                OffsetDateTime dteFrom = OffsetDateTime.parse(strFrom);
+                if (fmt == null) {
+                    throw new ApiException(415, String.format("Field<%s>: Invalid Date Format <%s>", fieldFrom, format));
+                }
+
+                dteFrom = DateCodec.parse(strFrom, fmt, zoneId);
+            } else {
+                dteFrom = DateCodec.parseIso(strFrom, zoneId);
+            }
 
-                setField(to, processObj.getString(FIELD_FIELD), dteFrom);
-            } catch (DateTimeParseException dtp) {
-                throw new ApiException(410, "Field (" + fieldFrom + ") Cannot Be Parsed to DateTime. Expected Format: yyyy-MM-ddTHH:mm:ss.SSSX");
+            if (dteFrom == null) {
+                throw new ApiException(410, "Field (" + fieldFrom + ") Cannot Be Parsed to DateTime. Expected Format: "
+                        + (format != null ? format : "yyyy-MM-ddTHH:mm:ss.SSSX"));
             }
+
+            setField(to, processObj.getString(FIELD_FIELD), dteFrom);
         }
     }
 
+    /**
+     * Convert DateTime to String
+     *
+     * <p>
+     * Uses ISO-8601 unless format is set in processObj. If zone is set, the
+     * value is converted to that zone first.</p>
+     */
     private void convertDateToString(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
         if (from.getType(fieldFrom) == ApiObject.TYPE_DATETIME) {
-            setField(to, processObj.getString(FIELD_FIELD), from.getDateTime(fieldFrom).format(DateTimeFormatter.ISO_DATE_TIME));
+            String format = processObj.getString(FIELD_FORMAT);
+            DateTimeFormatter fmt = null;
+
+            if (format != null) {
+                fmt = DateCodec.formatter(format);
+
+                if (fmt == null) {
+                    throw new ApiException(415, String.format("Field<%s>: Invalid Date Format <%s>", fieldFrom, format));
+                }
+            }
+
+            setField(to, processObj.getString(FIELD_FIELD), DateCodec.format(from.getDateTime(fieldFrom), fmt, dateZone(processObj)));
+        }
+    }
+
+    private ZoneId dateZone(ApiObject processObj) throws ApiException {
+        String zone = processObj.getString(FIELD_ZONE);
+
+        if (zone == null) {
+            return null;
+        }
+
+        ZoneId zoneId = DateCodec.zone(zone);
+
+        if (zoneId == null) {
+            throw new ApiException(415, String.format("Invalid Zone <%s>", zone));
+        }
+
+        return zoneId;
+    }
+
+    /**
+     * Legacy Map view of the registry, writes go to the registry
+     */
+    private final class MethodsView extends AbstractMap<String, ApiMethodHandler> {
+
+        private final Set<Entry<String, ApiMethodHandler>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, ApiMethodHandler>> iterator() {
+                Iterator<Entry<String, ApiMethodHandler>> snapshot = registry.getMethods().entrySet().iterator();
+
+                return new Iterator<>() {
+                    private String current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return snapshot.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, ApiMethodHandler> next() {
+                        Entry<String, ApiMethodHandler> entry = snapshot.next();
+
+                        current = entry.getKey();
+
+                        return new MethodEntry(entry.getKey(), entry.getValue());
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+
+                        registry.unregister(current);
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return registry.getMethods().size();
+            }
+        };
+
+        @Override
+        public Set<Entry<String, ApiMethodHandler>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public ApiMethodHandler get(Object key) {
+            return key instanceof String name ? registry.get(name) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public ApiMethodHandler put(String key, ApiMethodHandler value) {
+            ApiMethodHandler previous = registry.get(key);
+
+            registry.register(key, value);
+
+            return previous;
+        }
+
+        @Override
+        public ApiMethodHandler remove(Object key) {
+            if (key instanceof String name) {
+                ApiMethodHandler previous = registry.get(name);
+
+                registry.unregister(name);
+
+                return previous;
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Entry of the Methods view, setValue registers the method
+     */
+    private final class MethodEntry extends AbstractMap.SimpleEntry<String, ApiMethodHandler> {
+
+        MethodEntry(String name, ApiMethodHandler handler) {
+            super(name, handler);
+        }
+
+        @Override
+        public ApiMethodHandler setValue(ApiMethodHandler value) {
+            registry.register(getKey(), value);
+
+            return super.setValue(value);
+        }
+    }
+
+    /**
+     * A cached Plan, with the clock tick it was last used
+     */
+    private static final class CachedPlan {
+
+        private final ConversionPlan plan;
+        private volatile long used;
+
+        CachedPlan(ConversionPlan plan, long used) {
+            this.plan = plan;
+            this.used = used;
         }
     }
 }
@@ -0,0 +1,62 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import java.util.List;
+
+/**
+ * Every violation found in a subject, reported at once
+ *
+ * <p>
+ * The message has a line per violation, prefixed with root[index] for
+ * entries of a root list. Keeps the status code of the first
+ * violation.</p>
+ */
+public class ApiValidationException extends ApiException {
+
+    private final List<Violation> violations;
+
+    public ApiValidationException(List<Violation> violations) {
+        super(violations.get(0).code(), message(violations));
+
+        this.violations = List.copyOf(violations);
+    }
+
+    /**
+     * The violations, in record then Convert Object order
+     *
+     * @return The violations
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    private static String message(List<Violation> violations) {
+        StringBuilder sbErr = new StringBuilder();
+
+        for (Violation violation : violations) {
+            if (!sbErr.isEmpty()) {
+                sbErr.append("\n");
+            }
+
+            sbErr.append(violation);
+        }
+
+        return sbErr.toString();
+    }
+
+    /**
+     * A single failed check
+     *
+     * @param recordIndex Index in the root list, -1 for a single record
+     * @param field The subject field
+     * @param code Status code, 400 for $required and 415 otherwise
+     * @param message The same message a conversion would throw
+     */
+    public record Violation(int recordIndex, String field, int code, String message) {
+
+        @Override
+        public String toString() {
+            return recordIndex < 0 ? message : "root[" + recordIndex + "]: " + message;
+        }
+    }
+}
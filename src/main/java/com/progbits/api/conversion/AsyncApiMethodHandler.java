@@ -0,0 +1,48 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A method that converts a field without blocking the caller
+ *
+ * <p>
+ * convertObjectV2Async runs the async methods of a record, and of every
+ * record in a root list, at the same time. Everywhere else process waits for
+ * the result.</p>
+ */
+public interface AsyncApiMethodHandler extends ApiMethodHandler {
+
+    /**
+     * Start converting a field
+     *
+     * <p>
+     * The returned stage completes once the result has been written to
+     * <code>to</code>. Complete it exceptionally with an ApiException to fail
+     * the conversion. The subject must not be modified.</p>
+     *
+     * @param from The subject record
+     * @param to Where the result is written
+     * @param fieldFrom Name of the field in the subject
+     * @param processObj The field entry from the Convert Object
+     *
+     * @return Completes when the field is converted
+     */
+    CompletionStage<?> processAsync(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj);
+
+    @Override
+    default void process(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
+        try {
+            processAsync(from, to, fieldFrom, processObj).toCompletableFuture().join();
+        } catch (CompletionException | CancellationException ex) {
+            if (ex.getCause() instanceof ApiException apx) {
+                throw apx;
+            }
+
+            throw new ApiException(500, String.format("Method for Field <%s> Failed: %s", fieldFrom, ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage()));
+        }
+    }
+}
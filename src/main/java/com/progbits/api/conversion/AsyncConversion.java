@@ -0,0 +1,259 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Converts records with convertObjectV2 semantics, running the
+ * AsyncApiMethodHandler fields of every record at the same time
+ *
+ * <p>
+ * The other fields of a record are converted on the calling thread first.
+ * Each async method then writes to its own scratch object, and once every
+ * call has finished the scratch objects are merged into their records in rule
+ * order, after the other fields. If anything fails, the failure with the
+ * lowest record, then rule, is reported.</p>
+ */
+final class AsyncConversion {
+
+    private final ConversionPlan plan;
+    private final FieldRule[] rules;
+    private final AsyncApiMethodHandler[] handlers;
+    private final boolean includeAll;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final long timeoutNanos;
+    private final ConversionListener listener;
+
+    AsyncConversion(ConversionPlan plan, AsyncApiMethodHandler[] handlers, boolean includeAll, Executor executor, Semaphore permits, long timeoutNanos, ConversionListener listener) {
+        this.plan = plan;
+        this.rules = plan.getRules();
+        this.handlers = handlers;
+        this.includeAll = includeAll;
+        this.executor = executor;
+        this.permits = permits;
+        this.timeoutNanos = timeoutNanos;
+        this.listener = listener;
+    }
+
+    /**
+     * The async method bound to each rule of a Plan
+     *
+     * @param plan The Plan to check
+     *
+     * @return Handler per rule index, or null if the Plan has no async methods
+     */
+    static AsyncApiMethodHandler[] handlers(ConversionPlan plan) {
+        FieldRule[] rules = plan.getRules();
+        AsyncApiMethodHandler[] handlers = null;
+
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i].binding != null && rules[i].binding.getHandler() instanceof AsyncApiMethodHandler async) {
+                if (handlers == null) {
+                    handlers = new AsyncApiMethodHandler[rules.length];
+                }
+
+                handlers[i] = async;
+            }
+        }
+
+        return handlers;
+    }
+
+    /**
+     * Convert every entry
+     *
+     * @param entries The records to convert
+     * @param root true to report failures as an ApiConversionException with
+     * the record index
+     *
+     * @return Completes with the converted records in the order of entries, or
+     * exceptionally with an ApiException
+     */
+    CompletableFuture<List<ApiObject>> convert(List<ApiObject> entries, boolean root) {
+        List<ApiObject> respList = new ArrayList<>(entries.size());
+        List<Call> calls = new ArrayList<>();
+        ApiException syncError = null;
+
+        for (int r = 0; r < entries.size(); r++) {
+            ApiObject entry = entries.get(r);
+            ApiObject[] froms = new ApiObject[rules.length];
+            ApiObject respObj;
+
+            try {
+                respObj = convertSync(entry, froms);
+            } catch (ApiException apx) {
+                // Calls already started are all for earlier records
+                syncError = root ? new ApiConversionException(r, apx) : apx;
+
+                break;
+            }
+
+            respList.add(respObj);
+
+            for (int i = 0; i < rules.length; i++) {
+                if (handlers[i] != null) {
+                    calls.add(new Call(r, rules[i], start(handlers[i], rules[i], froms[i])));
+                }
+            }
+        }
+
+        CompletableFuture<List<ApiObject>> result = new CompletableFuture<>();
+        final ApiException lclSyncError = syncError;
+
+        CompletableFuture.allOf(calls.stream().map(c -> c.future).toArray(CompletableFuture[]::new))
+                .whenComplete((v, thr) -> finish(respList, calls, lclSyncError, root, result));
+
+        return result;
+    }
+
+    /**
+     * Convert the fields of an entry that are not async
+     *
+     * @param froms Receives the validated source object of each async field
+     */
+    private ApiObject convertSync(ApiObject entry, ApiObject[] froms) throws ApiException {
+        ApiObject respObj = new ApiObject();
+
+        for (int i = 0; i < rules.length; i++) {
+            FieldRule rule = rules[i];
+
+            if (handlers[i] != null) {
+                froms[i] = rule.validateV2(entry);
+            } else if (rule.kind != FieldRule.KIND_PASSTHROUGH) {
+                rule.applyV2(entry, respObj, listener);
+            } else if (includeAll) {
+                if (ConversionPlan.FIELD_ORDER_BY.equals(rule.configField)) {
+                    plan.renameOrderBy(entry, respObj, rule.configField);
+                } else {
+                    respObj.put(rule.configField, entry.get(rule.configField));
+                }
+            }
+        }
+
+        return respObj;
+    }
+
+    private CompletableFuture<ApiObject> start(AsyncApiMethodHandler handler, FieldRule rule, ApiObject from) {
+        CompletableFuture<ApiObject> call = new CompletableFuture<>();
+        ApiObject scratch = new ApiObject();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException iex) {
+                    Thread.currentThread().interrupt();
+                    call.completeExceptionally(iex);
+
+                    return;
+                }
+
+                // Timed out while waiting for the permit, the caller has already been told
+                if (call.isDone()) {
+                    permits.release();
+
+                    return;
+                }
+
+                long start = System.nanoTime();
+                CompletionStage<?> stage;
+
+                try {
+                    stage = handler.processAsync(from, scratch, rule.fieldFrom, rule.processObj);
+                } catch (RuntimeException | Error ex) {
+                    permits.release();
+                    completed(call, rule, scratch, ex, start);
+
+                    return;
+                }
+
+                stage.whenComplete((v, thr) -> {
+                    permits.release();
+                    completed(call, rule, scratch, thr, start);
+                });
+            });
+        } catch (RuntimeException rex) {
+            call.completeExceptionally(rex);
+        }
+
+        return call.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void completed(CompletableFuture<ApiObject> call, FieldRule rule, ApiObject scratch, Throwable thr, long start) {
+        if (thr == null) {
+            if (listener != null) {
+                listener.methodCompleted(rule.methodName, System.nanoTime() - start);
+            }
+
+            call.complete(scratch);
+        } else {
+            if (listener != null) {
+                listener.methodFailed(rule.methodName, toApiException(rule, thr), System.nanoTime() - start);
+            }
+
+            call.completeExceptionally(thr);
+        }
+    }
+
+    private void finish(List<ApiObject> respList, List<Call> calls, ApiException syncError, boolean root, CompletableFuture<List<ApiObject>> result) {
+        for (Call call : calls) {
+            if (call.future.isCompletedExceptionally()) {
+                ApiException apx;
+
+                try {
+                    call.future.get();
+                    continue;
+                } catch (ExecutionException | InterruptedException | RuntimeException ex) {
+                    apx = toApiException(call.rule, ex);
+                }
+
+                result.completeExceptionally(root ? new ApiConversionException(call.record, apx) : apx);
+
+                return;
+            }
+        }
+
+        if (syncError != null) {
+            result.completeExceptionally(syncError);
+
+            return;
+        }
+
+        for (Call call : calls) {
+            FieldRule.merge(respList.get(call.record), call.future.join());
+        }
+
+        result.complete(respList);
+    }
+
+    private static ApiException toApiException(FieldRule rule, Throwable thr) {
+        Throwable cause = thr;
+
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof ApiException apx) {
+            return apx;
+        } else if (cause instanceof TimeoutException) {
+            return new ApiException(504, String.format("Method <%s> for Field <%s> Timed Out", rule.methodName, rule.subjectField));
+        } else {
+            return new ApiException(500, String.format("Method <%s> for Field <%s> Failed: %s", rule.methodName, rule.subjectField, cause.getMessage()));
+        }
+    }
+
+    private record Call(int record, FieldRule rule, CompletableFuture<ApiObject> future) {
+
+    }
+}
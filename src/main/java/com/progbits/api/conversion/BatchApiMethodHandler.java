@@ -0,0 +1,34 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.List;
+
+/**
+ * A method that converts a field for many records in one call
+ *
+ * <p>
+ * For a root list, convertObjectV2 collects the records for the field and
+ * calls processBatch once per batch, instead of calling process per record.
+ * Single objects, convertObject and the parallel and streaming conversions
+ * still call process, which passes a batch of one.</p>
+ */
+public interface BatchApiMethodHandler extends ApiMethodHandler {
+
+    /**
+     * Convert a field for a batch of records
+     *
+     * @param from Subject records, the same size as to
+     * @param to Converted records, to.get(i) is the result for from.get(i)
+     * @param fieldFrom Name of the field in each subject
+     * @param processObj The field entry from the Convert Object
+     *
+     * @throws ApiException
+     */
+    void processBatch(List<ApiObject> from, List<ApiObject> to, String fieldFrom, ApiObject processObj) throws ApiException;
+
+    @Override
+    default void process(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
+        processBatch(List.of(from), List.of(to), fieldFrom, processObj);
+    }
+}
@@ -0,0 +1,492 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of an ApiObject for object2Binary and binary2Object
+ *
+ * <p>
+ * The encoding is self-describing: a version byte, then the root object.
+ * Every value starts with a one byte tag. Integers and lengths are varints,
+ * signed values zigzag encoded. Each key is written once, the first time it
+ * is seen, and referred to by index after that, so a list of records repeats
+ * no key names.</p>
+ *
+ * <pre>
+ * key:   varint 0, varint length, UTF-8  (new key, next index)
+ *        varint index + 1               (key seen before)
+ * value: NULL | FALSE | TRUE
+ *        INTEGER zigzag, LONG zigzag, DOUBLE 8 bytes, FLOAT 4 bytes
+ *        STRING length UTF-8
+ *        DECIMAL zigzag scale, length, unscaled two's complement
+ *        DATETIME zigzag epoch second, nano, zigzag offset seconds
+ *        OBJECT count, (key value)*
+ *        LIST count, value*  |  STRINGARRAY count, value*
+ * </pre>
+ */
+final class BinaryCodec {
+
+    static final int VERSION = 0xA1;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_FALSE = 1;
+    private static final int TAG_TRUE = 2;
+    private static final int TAG_INTEGER = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_DOUBLE = 5;
+    private static final int TAG_FLOAT = 6;
+    private static final int TAG_STRING = 7;
+    private static final int TAG_DECIMAL = 8;
+    private static final int TAG_DATETIME = 9;
+    private static final int TAG_OBJECT = 10;
+    private static final int TAG_LIST = 11;
+    private static final int TAG_STRINGARRAY = 12;
+
+    private static final int MAX_DEPTH = 256;
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * Encode an object
+     *
+     * @param obj The object to encode
+     *
+     * @return The encoded bytes
+     *
+     * @throws IllegalArgumentException if a value has no binary form
+     */
+    static byte[] encode(ApiObject obj) {
+        Writer writer = new Writer();
+
+        writer.writeByte(VERSION);
+        writer.writeObject(obj, 0);
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decode bytes from {@link #encode(ApiObject)}
+     *
+     * @param bytes The encoded bytes
+     *
+     * @return The object
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid encoding
+     */
+    static ApiObject decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+
+        if (bytes.length == 0 || reader.readByte() != VERSION) {
+            throw new IllegalArgumentException("Unknown Binary Version");
+        }
+
+        if (reader.readByte() != TAG_OBJECT) {
+            throw new IllegalArgumentException("Root Is Not an Object");
+        }
+
+        ApiObject obj = reader.readObject(0);
+
+        if (reader.pos != bytes.length) {
+            throw new IllegalArgumentException("Trailing Bytes at " + reader.pos);
+        }
+
+        return obj;
+    }
+
+    private static final class Writer {
+
+        private final Map<String, Integer> keys = new HashMap<>();
+        private byte[] buf = new byte[256];
+        private int pos = 0;
+
+        void writeObject(ApiObject obj, int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("Object Nested Deeper Than " + MAX_DEPTH);
+            }
+
+            writeByte(TAG_OBJECT);
+            writeVarInt(obj.keySet().size());
+
+            for (String key : obj.keySet()) {
+                writeKey(key);
+
+                if (obj.getType(key) == ApiObject.TYPE_STRINGARRAY) {
+                    writeList(TAG_STRINGARRAY, obj.getStringArray(key), depth);
+                } else {
+                    writeValue(obj.get(key), depth);
+                }
+            }
+        }
+
+        void writeValue(Object value, int depth) {
+            switch (value) {
+                case null ->
+                    writeByte(TAG_NULL);
+                case Boolean b ->
+                    writeByte(b ? TAG_TRUE : TAG_FALSE);
+                case Integer i -> {
+                    writeByte(TAG_INTEGER);
+                    writeVarInt((i << 1) ^ (i >> 31));
+                }
+                case Long l -> {
+                    writeByte(TAG_LONG);
+                    writeVarLong((l << 1) ^ (l >> 63));
+                }
+                case Double d -> {
+                    writeByte(TAG_DOUBLE);
+                    writeFixed(Double.doubleToRawLongBits(d), 8);
+                }
+                case Float f -> {
+                    writeByte(TAG_FLOAT);
+                    writeFixed(Float.floatToRawIntBits(f), 4);
+                }
+                case String s -> {
+                    writeByte(TAG_STRING);
+                    writeString(s);
+                }
+                case BigDecimal bd -> {
+                    byte[] unscaled = bd.unscaledValue().toByteArray();
+
+                    writeByte(TAG_DECIMAL);
+                    writeVarInt((bd.scale() << 1) ^ (bd.scale() >> 31));
+                    writeVarInt(unscaled.length);
+                    writeBytes(unscaled);
+                }
+                case OffsetDateTime odt -> {
+                    long seconds = odt.toEpochSecond();
+                    int offset = odt.getOffset().getTotalSeconds();
+
+                    writeByte(TAG_DATETIME);
+                    writeVarLong((seconds << 1) ^ (seconds >> 63));
+                    writeVarInt(odt.getNano());
+                    writeVarInt((offset << 1) ^ (offset >> 31));
+                }
+                case ApiObject obj ->
+                    writeObject(obj, depth + 1);
+                case List<?> lst ->
+                    writeList(isStringList(lst) ? TAG_STRINGARRAY : TAG_LIST, lst, depth);
+                default ->
+                    throw new IllegalArgumentException("No Binary Form for " + value.getClass().getName());
+            }
+        }
+
+        void writeList(int tag, List<?> lst, int depth) {
+            if (lst == null) {
+                writeByte(TAG_NULL);
+
+                return;
+            }
+
+            writeByte(tag);
+            writeVarInt(lst.size());
+
+            for (Object entry : lst) {
+                writeValue(entry, depth + 1);
+            }
+        }
+
+        void writeKey(String key) {
+            Integer index = keys.get(key);
+
+            if (index != null) {
+                writeVarInt(index + 1);
+            } else {
+                keys.put(key, keys.size());
+
+                writeVarInt(0);
+                writeString(key);
+            }
+        }
+
+        void writeString(String s) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+
+            buf[pos++] = (byte) b;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        void writeVarInt(int value) {
+            ensure(5);
+
+            while ((value & ~0x7F) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            buf[pos++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+
+            while ((value & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            buf[pos++] = (byte) value;
+        }
+
+        void writeFixed(long value, int count) {
+            ensure(count);
+
+            for (int i = 0; i < count; i++) {
+                buf[pos++] = (byte) (value >>> (i * 8));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        private void ensure(int count) {
+            if (pos + count > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + count));
+            }
+        }
+
+        private static boolean isStringList(List<?> lst) {
+            if (lst.isEmpty()) {
+                return false;
+            }
+
+            for (Object entry : lst) {
+                if (entry != null && !(entry instanceof String)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buf;
+        private final List<String> keys = new ArrayList<>();
+        private int pos = 0;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        ApiObject readObject(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("Object Nested Deeper Than " + MAX_DEPTH);
+            }
+
+            ApiObject obj = new ApiObject();
+            int count = readLength();
+
+            for (int i = 0; i < count; i++) {
+                String key = readKey();
+                int tag = readByte();
+
+                if (tag == TAG_STRINGARRAY) {
+                    obj.createStringArray(key);
+
+                    readEntries(obj.getStringArray(key), depth);
+                } else if (tag == TAG_LIST) {
+                    obj.createList(key);
+
+                    readEntries(obj.getList(key), depth);
+                } else {
+                    obj.put(key, readValue(tag, depth));
+                }
+            }
+
+            return obj;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> void readEntries(List<T> lst, int depth) {
+            int count = readLength();
+
+            for (int i = 0; i < count; i++) {
+                lst.add((T) readValue(readByte(), depth + 1));
+            }
+        }
+
+        Object readValue(int tag, int depth) {
+            return switch (tag) {
+                case TAG_NULL ->
+                    null;
+                case TAG_FALSE ->
+                    Boolean.FALSE;
+                case TAG_TRUE ->
+                    Boolean.TRUE;
+                case TAG_INTEGER -> {
+                    int value = readVarInt();
+
+                    yield (value >>> 1) ^ -(value & 1);
+                }
+                case TAG_LONG -> {
+                    long value = readVarLong();
+
+                    yield (value >>> 1) ^ -(value & 1);
+                }
+                case TAG_DOUBLE ->
+                    Double.longBitsToDouble(readFixed(8));
+                case TAG_FLOAT ->
+                    Float.intBitsToFloat((int) readFixed(4));
+                case TAG_STRING ->
+                    readString();
+                case TAG_DECIMAL -> {
+                    int scale = readVarInt();
+                    int len = readLength();
+
+                    if (len == 0) {
+                        throw new IllegalArgumentException("Empty Decimal at " + pos);
+                    }
+
+                    BigInteger unscaled = new BigInteger(buf, pos, len);
+
+                    pos += len;
+
+                    yield new BigDecimal(unscaled, (scale >>> 1) ^ -(scale & 1));
+                }
+                case TAG_DATETIME -> {
+                    long seconds = readVarLong();
+                    int nano = readVarInt();
+                    int offset = readVarInt();
+
+                    try {
+                        yield OffsetDateTime.ofInstant(Instant.ofEpochSecond((seconds >>> 1) ^ -(seconds & 1), nano),
+                                ZoneOffset.ofTotalSeconds((offset >>> 1) ^ -(offset & 1)));
+                    } catch (RuntimeException rex) {
+                        throw new IllegalArgumentException("Invalid Date Time at " + pos, rex);
+                    }
+                }
+                case TAG_OBJECT ->
+                    readObject(depth + 1);
+                case TAG_LIST, TAG_STRINGARRAY -> {
+                    List<Object> lst = new ArrayList<>();
+
+                    readEntries(lst, depth);
+
+                    yield lst;
+                }
+
+                default ->
+                    throw new IllegalArgumentException("Unknown Tag " + tag + " at " + (pos - 1));
+            };
+        }
+
+        String readKey() {
+            int index = readVarInt();
+
+            if (index == 0) {
+                String key = readString();
+
+                keys.add(key);
+
+                return key;
+            } else if (index > 0 && index <= keys.size()) {
+                return keys.get(index - 1);
+            } else {
+                throw new IllegalArgumentException("Unknown Key " + index + " at " + pos);
+            }
+        }
+
+        String readString() {
+            int len = readLength();
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+
+            pos += len;
+
+            return s;
+        }
+
+        int readByte() {
+            if (pos >= buf.length) {
+                throw new IllegalArgumentException("Unexpected End of Binary");
+            }
+
+            return buf[pos++] & 0xFF;
+        }
+
+        /**
+         * A count or byte length, which must fit in the remaining bytes
+         */
+        int readLength() {
+            int len = readVarInt();
+
+            if (len < 0 || len > buf.length - pos) {
+                throw new IllegalArgumentException("Invalid Length " + len + " at " + pos);
+            }
+
+            return len;
+        }
+
+        int readVarInt() {
+            int value = 0;
+
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+
+                value |= (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IllegalArgumentException("Invalid VarInt at " + pos);
+        }
+
+        long readVarLong() {
+            long value = 0;
+
+            for (int shift = 0; shift < 70; shift += 7) {
+                int b = readByte();
+
+                value |= (long) (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IllegalArgumentException("Invalid VarLong at " + pos);
+        }
+
+        long readFixed(int count) {
+            if (count > buf.length - pos) {
+                throw new IllegalArgumentException("Unexpected End of Binary");
+            }
+
+            long value = 0;
+
+            for (int i = 0; i < count; i++) {
+                value |= (long) (buf[pos++] & 0xFF) << (i * 8);
+            }
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import com.progbits.api.model.ApiObjectUtils;
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the result of a method for each input value
+ *
+ * <p>
+ * For methods whose result depends only on the value of the field and the
+ * settings of the field entry in the Convert Object. The fields a call
+ * writes to <code>to</code> are stored, and copied into <code>to</code> the
+ * next time the same value is converted with a field entry holding the same
+ * settings, even one built separately. Copies are made on store and on
+ * every hit, so callers never share an ApiObject.</p>
+ *
+ * <p>
+ * Only String, Number, Boolean, date and null values are cached, other
+ * values always call the method. The cache is split into segments, each an
+ * LRU with its own lock, and entries expire after the time to live. A
+ * BatchApiMethodHandler or AsyncApiMethodHandler is called per record once it
+ * is cached.</p>
+ */
+public final class CachingMethodHandler implements ApiMethodHandler {
+
+    private static final int SEGMENTS = 16;
+    private static final Object NULL_VALUE = new Object();
+    private static final int MAX_DIGESTS = 1024;
+
+    private final ApiMethodHandler delegate;
+    private final long ttlNanos;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final Map<Identity, String> digests = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder uncacheable = new LongAdder();
+
+    /**
+     * Cache a method
+     *
+     * @param delegate The method to cache
+     * @param maxSize Most results kept, rounded up to a multiple of 16
+     * @param ttl How long a result is kept, or null to keep it until evicted
+     */
+    public CachingMethodHandler(ApiMethodHandler delegate, int maxSize, Duration ttl) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Handler is NULL");
+        }
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max Size must be greater than 0");
+        }
+
+        this.delegate = delegate;
+        this.ttlNanos = ttl != null ? ttl.toNanos() : 0;
+
+        int segmentSize = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * The method being cached
+     *
+     * @return The original handler
+     */
+    public ApiMethodHandler getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void process(ApiObject from, ApiObject to, String fieldFrom, ApiObject processObj) throws ApiException {
+        Object value = from.get(fieldFrom);
+
+        if (!cacheable(value)) {
+            uncacheable.increment();
+            delegate.process(from, to, fieldFrom, processObj);
+
+            return;
+        }
+
+        Key key = new Key(value != null ? value : NULL_VALUE, settings(processObj));
+        Segment segment = segments[(key.hashCode() & 0x7fffffff) % SEGMENTS];
+        ApiObject result = segment.get(key);
+
+        if (result != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+
+            ApiObject scratch = new ApiObject();
+
+            delegate.process(from, scratch, fieldFrom, processObj);
+
+            result = ApiObjectUtils.cloneApiObject(scratch, null);
+
+            segment.put(key, result);
+        }
+
+        FieldRule.merge(to, ApiObjectUtils.cloneApiObject(result, null));
+    }
+
+    /**
+     * Remove every cached result
+     *
+     * <p>
+     * Required if a field entry is modified after it has been used.</p>
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+
+        digests.clear();
+    }
+
+    /**
+     * Cache statistics
+     *
+     * <p>
+     * Format: <code>{ size, hits, misses, evictions, expirations, uncacheable
+     * }</code></p>
+     *
+     * @return The statistics
+     */
+    public ApiObject getStats() {
+        long size = 0;
+
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+
+        ApiObject respObj = new ApiObject();
+
+        respObj.setLong("size", size);
+        respObj.setLong("hits", hits.sum());
+        respObj.setLong("misses", misses.sum());
+        respObj.setLong("evictions", evictions.sum());
+        respObj.setLong("expirations", expirations.sum());
+        respObj.setLong("uncacheable", uncacheable.sum());
+
+        return respObj;
+    }
+
+    /**
+     * Digest of the field entry, so equal entries share results
+     *
+     * <p>
+     * Remembered per field entry instance. Plans hold on to their field
+     * entries, so the digest is built once per entry.</p>
+     */
+    private String settings(ApiObject processObj) {
+        Identity identity = new Identity(processObj);
+        String digest = digests.get(identity);
+
+        if (digest == null) {
+            StringBuilder sb = new StringBuilder();
+
+            digest(processObj, sb);
+
+            digest = sb.toString();
+
+            if (digests.size() >= MAX_DIGESTS) {
+                digests.clear();
+            }
+
+            digests.put(identity, digest);
+        }
+
+        return digest;
+    }
+
+    /*
+      Keys sorted and every String length prefixed, so different entries
+      never build the same digest
+     */
+    private static void digest(Object value, StringBuilder sb) {
+        switch (value) {
+            case null ->
+                sb.append('n');
+            case ApiObject obj -> {
+                sb.append('{');
+
+                for (String field : new TreeSet<>(obj.keySet())) {
+                    sb.append(field.length()).append(':').append(field);
+
+                    digest(obj.get(field), sb);
+                }
+
+                sb.append('}');
+            }
+            case List<?> lst -> {
+                sb.append('[');
+
+                for (Object entry : lst) {
+                    digest(entry, sb);
+                }
+
+                sb.append(']');
+            }
+            default -> {
+                String text = value.toString();
+
+                sb.append(value.getClass().getSimpleName()).append(text.length()).append(':').append(text);
+            }
+        }
+    }
+
+    private static boolean cacheable(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Temporal;
+    }
+
+    /**
+     * Input value and the digest of the field entry
+     */
+    private record Key(Object value, String settings) {
+
+    }
+
+    /**
+     * A field entry, compared by identity
+     */
+    private record Identity(ApiObject processObj) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Identity other && processObj == other.processObj;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(processObj);
+        }
+    }
+
+    private record Entry(ApiObject result, long expiresAt) {
+
+    }
+
+    /**
+     * LRU with its own lock
+     */
+    private final class Segment {
+
+        private final Map<Key, Entry> entries;
+
+        Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+
+                        return true;
+                    }
+
+                    return false;
+                }
+            };
+        }
+
+        synchronized ApiObject get(Key key) {
+            Entry entry = entries.get(key);
+
+            if (entry == null) {
+                return null;
+            }
+
+            if (ttlNanos > 0 && System.nanoTime() - entry.expiresAt > 0) {
+                entries.remove(key);
+                expirations.increment();
+
+                return null;
+            }
+
+            return entry.result;
+        }
+
+        synchronized void put(Key key, ApiObject result) {
+            entries.put(key, new Entry(result, ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0));
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
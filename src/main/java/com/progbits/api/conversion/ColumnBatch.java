@@ -0,0 +1,195 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+
+/**
+ * A block of converted rows stored by column
+ *
+ * <p>
+ * int, long and boolean columns are primitive arrays, with nulls tracked in
+ * a bitmap, so no value is boxed and no row is kept as an ApiObject. Column
+ * arrays may be longer than {@link #getSize()}.</p>
+ */
+public final class ColumnBatch {
+
+    private final ColumnSchema schema;
+    private final Object[] columns;
+    private final long[][] nulls;
+    private final long firstRow;
+    private final int capacity;
+    private int size = 0;
+
+    ColumnBatch(ColumnSchema schema, int capacity, long firstRow) {
+        this.schema = schema;
+        this.columns = new Object[schema.getColumnCount()];
+        this.nulls = new long[schema.getColumnCount()][(capacity + 63) >>> 6];
+        this.firstRow = firstRow;
+        this.capacity = capacity;
+
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = switch (schema.getType(c)) {
+                case ColumnSchema.TYPE_INT ->
+                    new int[capacity];
+                case ColumnSchema.TYPE_LONG ->
+                    new long[capacity];
+                case ColumnSchema.TYPE_BOOLEAN ->
+                    new boolean[capacity];
+                default ->
+                    new Object[capacity];
+            };
+        }
+    }
+
+    public ColumnSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Number of rows in this batch
+     *
+     * @return Row count
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Index of the first row of this batch in the whole conversion
+     *
+     * @return Record index of row 0
+     */
+    public long getFirstRow() {
+        return firstRow;
+    }
+
+    public boolean isNull(int column, int row) {
+        return (nulls[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    public int getInt(int column, int row) {
+        return ((int[]) columns[column])[row];
+    }
+
+    public long getLong(int column, int row) {
+        return ((long[]) columns[column])[row];
+    }
+
+    public boolean getBoolean(int column, int row) {
+        return ((boolean[]) columns[column])[row];
+    }
+
+    /**
+     * Value of any column, boxed
+     *
+     * @param column Column index
+     * @param row Row index
+     *
+     * @return The value, or null
+     */
+    public Object getObject(int column, int row) {
+        if (isNull(column, row)) {
+            return null;
+        }
+
+        return switch (schema.getType(column)) {
+            case ColumnSchema.TYPE_INT ->
+                getInt(column, row);
+            case ColumnSchema.TYPE_LONG ->
+                getLong(column, row);
+            case ColumnSchema.TYPE_BOOLEAN ->
+                getBoolean(column, row);
+            default ->
+                ((Object[]) columns[column])[row];
+        };
+    }
+
+    public int[] getIntColumn(int column) {
+        return (int[]) columns[column];
+    }
+
+    public long[] getLongColumn(int column) {
+        return (long[]) columns[column];
+    }
+
+    public boolean[] getBooleanColumn(int column) {
+        return (boolean[]) columns[column];
+    }
+
+    public Object[] getObjectColumn(int column) {
+        return (Object[]) columns[column];
+    }
+
+    /**
+     * Null bitmap of a column, bit (row % 64) of word (row / 64) is set when
+     * the row is null
+     *
+     * @param column Column index
+     *
+     * @return The bitmap
+     */
+    public long[] getNulls(int column) {
+        return nulls[column];
+    }
+
+    /**
+     * Start a new row, every column null
+     *
+     * @return The row index
+     */
+    int addRow() {
+        int row = size++;
+
+        for (long[] bitmap : nulls) {
+            bitmap[row >>> 6] |= 1L << row;
+        }
+
+        return row;
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * Store a value, checking it fits the column type
+     */
+    void set(int column, int row, Object value) throws ApiException {
+        if (value == null) {
+            nulls[column][row >>> 6] |= 1L << row;
+
+            return;
+        }
+
+        switch (schema.getType(column)) {
+            case ColumnSchema.TYPE_INT -> {
+                if (!(value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+                    throw typeError(column, "int");
+                }
+
+                ((int[]) columns[column])[row] = ((Number) value).intValue();
+            }
+            case ColumnSchema.TYPE_LONG -> {
+                if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+                    throw typeError(column, "long");
+                }
+
+                ((long[]) columns[column])[row] = ((Number) value).longValue();
+            }
+            case ColumnSchema.TYPE_BOOLEAN -> {
+                if (!(value instanceof Boolean)) {
+                    throw typeError(column, "boolean");
+                }
+
+                ((boolean[]) columns[column])[row] = (Boolean) value;
+            }
+            default ->
+                ((Object[]) columns[column])[row] = value;
+        }
+
+        nulls[column][row >>> 6] &= ~(1L << row);
+    }
+
+    private ApiException typeError(int column, String type) {
+        return new ApiException(415, schema.getName(column) + " Expected Column Type " + type);
+    }
+}
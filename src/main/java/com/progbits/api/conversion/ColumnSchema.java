@@ -0,0 +1,68 @@
+package com.progbits.api.conversion;
+
+import java.util.Arrays;
+
+/**
+ * Column names and types produced by a columnar conversion
+ *
+ * <p>
+ * Columns are the target fields of the Convert Object, in Convert Object
+ * order. Nested targets use the full path as the name, ie:
+ * <code>address.city</code>.</p>
+ */
+public final class ColumnSchema {
+
+    public static final int TYPE_OBJECT = 0;
+    public static final int TYPE_INT = 1;
+    public static final int TYPE_LONG = 2;
+    public static final int TYPE_BOOLEAN = 3;
+
+    private final String[] names;
+    private final int[] types;
+
+    ColumnSchema(String[] names, int[] types) {
+        this.names = names;
+        this.types = types;
+    }
+
+    public int getColumnCount() {
+        return names.length;
+    }
+
+    public String getName(int column) {
+        return names[column];
+    }
+
+    /**
+     * Storage type of a column
+     *
+     * @param column Column index
+     *
+     * @return TYPE_INT, TYPE_LONG, TYPE_BOOLEAN or TYPE_OBJECT
+     */
+    public int getType(int column) {
+        return types[column];
+    }
+
+    /**
+     * Find a column by name
+     *
+     * @param name Target field name
+     *
+     * @return The column index, or -1
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(names);
+    }
+}
@@ -0,0 +1,150 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts records straight into a ColumnBatch with convertObjectV2
+ * semantics
+ *
+ * <p>
+ * Mapped fields are copied from the subject into their column. Methods write
+ * to a scratch object that is reused for every row, and their target is read
+ * back into the column. Only the target field of each entry becomes a column,
+ * so other fields written by a method are dropped.</p>
+ */
+final class ColumnarConversion {
+
+    /*
+      Column type of built in methods that always produce the same type
+     */
+    private static final Map<String, Integer> METHOD_TYPES = Map.of(
+            "boolToInt", ColumnSchema.TYPE_INT,
+            "intToBool", ColumnSchema.TYPE_BOOLEAN
+    );
+
+    private final FieldRule[] rules;
+    private final int[] ruleColumns;
+    private final ColumnSchema schema;
+
+    ColumnarConversion(FieldRule[] planRules) {
+        List<FieldRule> lstRules = new ArrayList<>();
+        List<Integer> lstRuleColumns = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        Map<String, Integer> columnIndex = new HashMap<>();
+
+        for (FieldRule rule : planRules) {
+            if (rule.kind == FieldRule.KIND_PASSTHROUGH) {
+                continue;
+            }
+
+            int column = -1;
+
+            if (rule.target != null) {
+                Integer existing = columnIndex.get(rule.target);
+
+                if (existing != null) {
+                    column = existing;
+                } else {
+                    column = names.size();
+
+                    names.add(rule.target);
+                    types.add(columnType(rule));
+                    columnIndex.put(rule.target, column);
+                }
+            }
+
+            lstRules.add(rule);
+            lstRuleColumns.add(column);
+        }
+
+        this.rules = lstRules.toArray(FieldRule[]::new);
+        this.ruleColumns = lstRuleColumns.stream().mapToInt(Integer::intValue).toArray();
+        this.schema = new ColumnSchema(names.toArray(String[]::new), types.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    ColumnSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Convert one record into the next row of a batch
+     *
+     * @param subject The record to convert
+     * @param batch Batch with room for another row
+     * @param scratch Empty object for methods to write to, emptied again
+     * before returning
+     * @param listener Instrumentation listener, null when disabled
+     */
+    void convertRow(ApiObject subject, ColumnBatch batch, ApiObject scratch, ConversionListener listener) throws ApiException {
+        int row = batch.addRow();
+        boolean scratchUsed = false;
+
+        for (int i = 0; i < rules.length; i++) {
+            FieldRule rule = rules[i];
+            int column = ruleColumns[i];
+
+            if (rule.kind == FieldRule.KIND_MAPPED) {
+                batch.set(column, row, rule.sourcePath != null ? rule.sourcePath.read(subject) : subject.get(rule.configField));
+            } else {
+                ApiObject from = rule.validateV2(subject);
+
+                if (rule.methodName != null) {
+                    rule.invoke(from, scratch, rule.fieldFrom, listener);
+                    scratchUsed = true;
+
+                    if (column > -1) {
+                        batch.set(column, row, rule.targetPath.read(scratch));
+                    }
+                } else if (column > -1) {
+                    batch.set(column, row, from.get(rule.fieldFrom));
+                } else {
+                    throw new ApiException(415, String.format("Field <%s> Has No Target Field", rule.configField));
+                }
+            }
+        }
+
+        if (scratchUsed) {
+            for (String key : new ArrayList<>(scratch.keySet())) {
+                scratch.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Column type from columnType, a built in method, or type
+     */
+    private static int columnType(FieldRule rule) {
+        if (rule.processObj == null) {
+            return ColumnSchema.TYPE_OBJECT;
+        }
+
+        if (rule.processObj.isSet(ApiObjectConverter.FIELD_COLUMN_TYPE)) {
+            return typeOf(rule.processObj.getString(ApiObjectConverter.FIELD_COLUMN_TYPE));
+        }
+
+        if (rule.methodName != null) {
+            return METHOD_TYPES.getOrDefault(rule.methodName, ColumnSchema.TYPE_OBJECT);
+        }
+
+        return rule.typeName != null ? typeOf(rule.typeName) : ColumnSchema.TYPE_OBJECT;
+    }
+
+    private static int typeOf(String typeName) {
+        return switch (typeName) {
+            case "int", "integer" ->
+                ColumnSchema.TYPE_INT;
+            case "long" ->
+                ColumnSchema.TYPE_LONG;
+            case "boolean" ->
+                ColumnSchema.TYPE_BOOLEAN;
+            default ->
+                ColumnSchema.TYPE_OBJECT;
+        };
+    }
+}
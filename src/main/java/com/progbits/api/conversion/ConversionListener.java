@@ -0,0 +1,53 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+
+/**
+ * Receives timings from the converter when instrumentation is enabled
+ *
+ * <p>
+ * Called on the converting thread, so implementations must be thread safe
+ * and fast. Register with
+ * {@link ApiObjectConverter#addConversionListener(ConversionListener)}.</p>
+ */
+public interface ConversionListener {
+
+    /**
+     * A convertObject or convertObjectV2 call completed
+     *
+     * @param mapping Name of the Plan
+     * @param records Number of records converted
+     * @param nanos Time taken
+     */
+    default void conversionCompleted(String mapping, int records, long nanos) {
+    }
+
+    /**
+     * A convertObject or convertObjectV2 call failed
+     *
+     * @param mapping Name of the Plan
+     * @param apx The failure
+     * @param nanos Time taken before the failure
+     */
+    default void conversionFailed(String mapping, ApiException apx, long nanos) {
+    }
+
+    /**
+     * A method completed for a single field
+     *
+     * @param method Name of the method
+     * @param nanos Time taken
+     */
+    default void methodCompleted(String method, long nanos) {
+    }
+
+    /**
+     * A method failed
+     *
+     * @param method Name of the method
+     * @param apx The failure
+     * @param nanos Time taken before the failure
+     */
+    default void methodFailed(String method, ApiException apx, long nanos) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms per mapping and per method
+ *
+ * <p>
+ * Enable with {@link ApiObjectConverter#enableMetrics()}. Counters are
+ * striped, so recording does not contend between threads. Read the values
+ * with {@link #snapshot()}.</p>
+ */
+public class ConversionMetrics implements ConversionListener {
+
+    private final Map<String, Stats> mappings = new ConcurrentHashMap<>();
+    private final Map<String, Stats> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public void conversionCompleted(String mapping, int records, long nanos) {
+        Stats stats = stats(mappings, mapping);
+
+        stats.calls.increment();
+        stats.records.add(records);
+        stats.latency.record(nanos);
+    }
+
+    @Override
+    public void conversionFailed(String mapping, ApiException apx, long nanos) {
+        Stats stats = stats(mappings, mapping);
+
+        stats.calls.increment();
+        stats.latency.record(nanos);
+        stats.error(apx);
+    }
+
+    @Override
+    public void methodCompleted(String method, long nanos) {
+        Stats stats = stats(methods, method);
+
+        stats.calls.increment();
+        stats.latency.record(nanos);
+    }
+
+    @Override
+    public void methodFailed(String method, ApiException apx, long nanos) {
+        Stats stats = stats(methods, method);
+
+        stats.calls.increment();
+        stats.latency.record(nanos);
+        stats.error(apx);
+    }
+
+    /**
+     * Current values of all counters
+     *
+     * <p>
+     * Format: <code>{ mappings: { name: stats }, methods: { name: stats } }</code>
+     * where stats contains calls, records (mappings only), errors by status
+     * code, and latency.</p>
+     *
+     * @return Snapshot of the metrics
+     */
+    public ApiObject snapshot() {
+        ApiObject respObj = new ApiObject();
+
+        ApiObject objMappings = respObj.createObject("mappings");
+
+        mappings.forEach((name, stats) -> objMappings.setObject(name, stats.snapshot(true)));
+
+        ApiObject objMethods = respObj.createObject("methods");
+
+        methods.forEach((name, stats) -> objMethods.setObject(name, stats.snapshot(false)));
+
+        return respObj;
+    }
+
+    /**
+     * Reset all counters to zero
+     */
+    public void reset() {
+        mappings.clear();
+        methods.clear();
+    }
+
+    private static Stats stats(Map<String, Stats> map, String name) {
+        Stats stats = map.get(name);
+
+        if (stats == null) {
+            stats = map.computeIfAbsent(name, k -> new Stats());
+        }
+
+        return stats;
+    }
+
+    private static final class Stats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder records = new LongAdder();
+        private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        void error(ApiException apx) {
+            errors.computeIfAbsent(apx.getCode(), k -> new LongAdder()).increment();
+        }
+
+        ApiObject snapshot(boolean includeRecords) {
+            ApiObject respObj = new ApiObject();
+
+            respObj.setLong("calls", calls.sum());
+
+            if (includeRecords) {
+                respObj.setLong("records", records.sum());
+            }
+
+            ApiObject objErrors = respObj.createObject("errors");
+
+            errors.forEach((code, count) -> objErrors.setLong(String.valueOf(code), count.sum()));
+
+            respObj.setObject("latency", latency.snapshot());
+
+            return respObj;
+        }
+    }
+}
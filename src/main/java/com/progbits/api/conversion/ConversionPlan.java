@@ -0,0 +1,420 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import com.progbits.api.model.ApiObjectUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A Convert Object compiled once for repeated use.
+ *
+ * <p>
+ * Target paths, method handlers, validation rules and orderBy renames are
+ * resolved when the plan is built, so converting a record no longer has to
+ * interpret the Convert Object. Methods are bound through the
+ * {@link MethodRegistry}, so a plan follows methods that are registered or
+ * replaced later. Obtain a plan with
+ * {@link ApiObjectConverter#getPlan(ApiObject)}.</p>
+ *
+ * <p>
+ * A plan reflects the Convert Object at the time it was compiled. Plans
+ * from getPlan are compiled from a private copy, and a Convert Object that
+ * is modified afterwards gets a new Plan.</p>
+ */
+public final class ConversionPlan {
+
+    /**
+     * Name of every Plan that was not named, reported as one entry in
+     * ConversionMetrics
+     */
+    public static final String UNNAMED = "unnamed";
+
+    static final String FIELD_ORDER_BY = "orderBy";
+
+    private static final int MAX_PROJECTIONS = 256;
+
+    private final ApiObject convertObj;
+    private final PlanContext context;
+    private final Instrumentation instrumentation;
+    private final String[] requiredFields;
+    private final Map<String, FieldRule> subjectRules;
+    private final FieldRule[] rules;
+    private final Map<String, String> orderByRenames;
+    private final Validator validator;
+    private final Projection projection;
+
+    /*
+      Mapped fields dropped by the projection, never copied by includeAll
+     */
+    private final Set<String> excluded;
+    private final Map<Projection, ConversionPlan> projections = new ConcurrentHashMap<>();
+
+    private volatile String name;
+    private volatile ColumnarConversion columnar;
+
+    ConversionPlan(ApiObject convertObj, PlanContext context) {
+        this.convertObj = convertObj;
+        this.context = context;
+        this.instrumentation = context.instrumentation;
+        String remembered = context.name(convertObj);
+
+        this.name = remembered != null ? remembered : UNNAMED;
+
+        if (convertObj.getType(ApiObjectConverter.CONTROL_REQUIRED) == ApiObject.TYPE_STRINGARRAY) {
+            this.requiredFields = convertObj.getStringArray(ApiObjectConverter.CONTROL_REQUIRED).toArray(String[]::new);
+        } else {
+            this.requiredFields = null;
+        }
+
+        List<FieldRule> lstRules = new ArrayList<>();
+        Map<String, FieldRule> mapRules = new HashMap<>();
+        Map<String, String> mapRenames = new HashMap<>();
+
+        for (String convertFld : convertObj.keySet()) {
+            FieldRule rule;
+
+            if (convertObj.getType(convertFld) == ApiObject.TYPE_STRING) {
+                rule = FieldRule.mapped(convertFld, convertObj.getString(convertFld));
+            } else if (convertObj.getType(convertFld) == ApiObject.TYPE_OBJECT) {
+                ApiObject processObj = convertObj.getObject(convertFld);
+                String methodName = processObj.getString(ApiObjectConverter.FIELD_METHOD);
+
+                rule = FieldRule.object(convertFld, processObj, methodName != null ? context.registry.bind(methodName) : null);
+            } else {
+                rule = FieldRule.passthrough(convertFld);
+            }
+
+            lstRules.add(rule);
+
+            if (rule.kind != FieldRule.KIND_PASSTHROUGH) {
+                mapRules.put(convertFld, rule);
+
+                if (rule.target != null) {
+                    mapRenames.put(convertFld, rule.target);
+                }
+            }
+        }
+
+        this.rules = lstRules.toArray(FieldRule[]::new);
+        this.subjectRules = mapRules;
+        this.orderByRenames = mapRenames;
+        this.validator = new Validator(requiredFields, rules);
+        this.projection = null;
+        this.excluded = Set.of();
+    }
+
+    private ConversionPlan(ConversionPlan base, Projection projection) {
+        this.convertObj = base.convertObj;
+        this.context = base.context;
+        this.instrumentation = base.instrumentation;
+        this.name = base.name;
+        this.requiredFields = base.requiredFields;
+        this.orderByRenames = base.orderByRenames;
+        this.projection = projection;
+
+        List<FieldRule> lstRules = new ArrayList<>();
+        Map<String, FieldRule> mapRules = new HashMap<>();
+        Set<String> setExcluded = new HashSet<>();
+
+        for (FieldRule rule : base.rules) {
+            if (projection.includes(rule)) {
+                lstRules.add(rule);
+
+                if (rule.kind != FieldRule.KIND_PASSTHROUGH) {
+                    mapRules.put(rule.configField, rule);
+                }
+            } else if (rule.kind != FieldRule.KIND_PASSTHROUGH) {
+                setExcluded.add(rule.configField);
+            }
+        }
+
+        this.rules = lstRules.toArray(FieldRule[]::new);
+        this.subjectRules = mapRules;
+        this.validator = new Validator(requiredFields, rules);
+        this.excluded = setExcluded;
+    }
+
+    /**
+     * Name reported by instrumentation
+     *
+     * @return The name, {@link #UNNAMED} if not named
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Name the mapping, to identify it in ConversionMetrics
+     *
+     * <p>
+     * The name is kept with the Convert Object, so a Plan compiled again
+     * after being dropped from the cache keeps it.</p>
+     *
+     * @param name Name of the mapping, ie: CONVERT_CONTACT, or null to report
+     * as {@link #UNNAMED}
+     */
+    public void setName(String name) {
+        this.name = name != null ? name : UNNAMED;
+
+        if (projection == null) {
+            context.setName(convertObj, name);
+        }
+    }
+
+    /**
+     * The Convert Object this plan was compiled from
+     *
+     * @return A copy of the Convert Object
+     */
+    public ApiObject getConvertObject() {
+        return ApiObjectUtils.cloneApiObject(convertObj, null);
+    }
+
+    /**
+     * This Plan restricted to the fields of a projection, cached
+     *
+     * <p>
+     * Rules whose target is not in the projection are dropped, so their
+     * methods are not called and their validation does not run. Methods
+     * without a target field always run. With includeAll, unmapped subject
+     * fields are only copied if they are in the projection, and orderBy is
+     * always renamed.</p>
+     *
+     * @param projection The fields to return
+     *
+     * @return The projected Plan
+     *
+     * @throws IllegalArgumentException if this Plan is already projected
+     */
+    public ConversionPlan project(Projection projection) {
+        if (this.projection != null) {
+            throw new IllegalArgumentException("Plan " + name + " Is Already Projected");
+        }
+
+        ConversionPlan plan = projections.get(projection);
+
+        if (plan == null) {
+            plan = new ConversionPlan(this, projection);
+
+            if (projections.size() >= MAX_PROJECTIONS) {
+                projections.clear();
+            }
+
+            ConversionPlan existing = projections.putIfAbsent(projection, plan);
+
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+
+        return plan;
+    }
+
+    /**
+     * The projection this Plan was restricted to
+     *
+     * @return The projection, or null if this Plan is not projected
+     */
+    public Projection getProjection() {
+        return projection;
+    }
+
+    Validator getValidator() {
+        return validator;
+    }
+
+    FieldRule[] getRules() {
+        return rules;
+    }
+
+    ColumnarConversion getColumnar() {
+        ColumnarConversion lclColumnar = columnar;
+
+        if (lclColumnar == null) {
+            lclColumnar = new ColumnarConversion(rules);
+            columnar = lclColumnar;
+        }
+
+        return lclColumnar;
+    }
+
+    /**
+     * Convert a single ApiObject with convertObject semantics
+     *
+     * @param subject The subject to perform the conversion on
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    ApiObject convertSingle(ApiObject subject, boolean includeAll) throws ApiException {
+        ApiObject respObj = new ApiObject();
+        ConversionListener listener = instrumentation.listener;
+
+        if (requiredFields != null) {
+            validator.checkRequired(subject);
+        }
+
+        for (String subjectFld : subject.keySet()) {
+            FieldRule rule = subjectRules.get(subjectFld);
+
+            if (rule != null) {
+                rule.applyV1(subject, respObj, listener);
+            } else if (includeAll) {
+                if (FIELD_ORDER_BY.equals(subjectFld)) {
+                    renameOrderBy(subject, respObj, subjectFld);
+                } else if (projection == null || (!excluded.contains(subjectFld) && projection.includes(subjectFld))) {
+                    respObj.put(subjectFld, subject.get(subjectFld));
+                }
+            }
+        }
+
+        return respObj;
+    }
+
+    /**
+     * Convert a single ApiObject with convertObjectV2 semantics
+     *
+     * @param subject The subject to perform the conversion on
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    ApiObject convertSingleV2(ApiObject subject, boolean includeAll) throws ApiException {
+        ConversionListener listener = instrumentation.listener;
+        ApiObject respObj = new ApiObject();
+
+        for (FieldRule rule : rules) {
+            if (rule.kind != FieldRule.KIND_PASSTHROUGH) {
+                rule.applyV2(subject, respObj, listener);
+            } else if (includeAll) {
+                if (FIELD_ORDER_BY.equals(rule.configField)) {
+                    renameOrderBy(subject, respObj, rule.configField);
+                } else {
+                    respObj.put(rule.configField, subject.get(rule.configField));
+                }
+            }
+        }
+
+        return respObj;
+    }
+
+    /**
+     * Convert a root list with convertObjectV2 semantics
+     *
+     * <p>
+     * Fields bound to a BatchApiMethodHandler are validated per record as
+     * usual, then the handler is called once per batch after the other
+     * fields of every record are converted. Without batch methods each
+     * record is converted with convertSingleV2.</p>
+     *
+     * @param entries The records to convert
+     * @param includeAll true/false Return ALL fields from subject
+     *
+     * @return The Converted Objects, in the same order
+     *
+     * @throws ApiException
+     */
+    List<ApiObject> convertListV2(List<ApiObject> entries, boolean includeAll) throws ApiException {
+        BatchApiMethodHandler[] batchHandlers = null;
+
+        for (int i = 0; i < rules.length; i++) {
+            BatchApiMethodHandler handler = rules[i].batchHandler();
+
+            if (handler != null) {
+                if (batchHandlers == null) {
+                    batchHandlers = new BatchApiMethodHandler[rules.length];
+                }
+
+                batchHandlers[i] = handler;
+            }
+        }
+
+        List<ApiObject> respList = new ArrayList<>(entries.size());
+
+        if (batchHandlers == null) {
+            for (ApiObject entry : entries) {
+                respList.add(convertSingleV2(entry, includeAll));
+            }
+
+            return respList;
+        }
+
+        ConversionListener listener = instrumentation.listener;
+        List<List<ApiObject>> batchFrom = new ArrayList<>(rules.length);
+
+        for (int i = 0; i < rules.length; i++) {
+            batchFrom.add(batchHandlers[i] != null ? new ArrayList<>(entries.size()) : null);
+        }
+
+        for (ApiObject entry : entries) {
+            ApiObject respObj = new ApiObject();
+
+            for (int i = 0; i < rules.length; i++) {
+                FieldRule rule = rules[i];
+
+                if (batchHandlers[i] != null) {
+                    batchFrom.get(i).add(rule.validateV2(entry));
+                } else if (rule.kind != FieldRule.KIND_PASSTHROUGH) {
+                    rule.applyV2(entry, respObj, listener);
+                } else if (includeAll) {
+                    if (FIELD_ORDER_BY.equals(rule.configField)) {
+                        renameOrderBy(entry, respObj, rule.configField);
+                    } else {
+                        respObj.put(rule.configField, entry.get(rule.configField));
+                    }
+                }
+            }
+
+            respList.add(respObj);
+        }
+
+        for (int i = 0; i < rules.length; i++) {
+            if (batchHandlers[i] != null) {
+                FieldRule rule = rules[i];
+                int batchSize = rule.batchSize > 0 ? rule.batchSize : context.maxBatchSize;
+
+                for (int start = 0; start < entries.size(); start += batchSize) {
+                    int end = Math.min(start + batchSize, entries.size());
+
+                    rule.invokeBatch(batchHandlers[i], batchFrom.get(i).subList(start, end), respList.subList(start, end), listener);
+                }
+            }
+        }
+
+        return respList;
+    }
+
+    void renameOrderBy(ApiObject subject, ApiObject respObj, String orderFld) {
+        respObj.createStringArray(orderFld);
+
+        List<String> orderBy = subject.getStringArray(FIELD_ORDER_BY);
+
+        if (orderBy == null) {
+            return;
+        }
+
+        List<String> respOrder = respObj.getStringArray(orderFld);
+
+        for (var orderEntry : orderBy) {
+            boolean minusExists = orderEntry.startsWith("-");
+            String lclOrderEntry = minusExists ? orderEntry.substring(1) : orderEntry;
+            String replaceEntry = orderByRenames.get(lclOrderEntry);
+
+            if (replaceEntry == null) {
+                replaceEntry = convertObj.getString(lclOrderEntry);
+            }
+
+            respOrder.add(minusExists ? "-" + replaceEntry : replaceEntry);
+        }
+    }
+}
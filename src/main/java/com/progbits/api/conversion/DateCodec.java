@@ -0,0 +1,435 @@
+package com.progbits.api.conversion;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Date parsing and formatting for stringToDate and dateToString
+ *
+ * <p>
+ * The common ISO-8601 shapes are parsed and formatted by hand, without
+ * building a DateTimeFormatter or throwing on invalid input. Custom patterns
+ * and zones are compiled once and cached.</p>
+ */
+final class DateCodec {
+
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private static final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+    private static final Map<String, ZoneId> zones = new ConcurrentHashMap<>();
+
+    private DateCodec() {
+    }
+
+    /**
+     * Cached formatter for a pattern
+     *
+     * @param pattern DateTimeFormatter pattern, ie: MM/dd/yyyy
+     *
+     * @return The formatter, or null if the pattern is invalid
+     */
+    static DateTimeFormatter formatter(String pattern) {
+        DateTimeFormatter fmt = formatters.get(pattern);
+
+        if (fmt == null) {
+            try {
+                fmt = DateTimeFormatter.ofPattern(pattern);
+            } catch (IllegalArgumentException iae) {
+                return null;
+            }
+
+            formatters.putIfAbsent(pattern, fmt);
+        }
+
+        return fmt;
+    }
+
+    /**
+     * Cached zone
+     *
+     * @param zoneName Zone Id or offset, ie: America/Chicago, UTC, -05:00
+     *
+     * @return The zone, or null if the zone is invalid
+     */
+    static ZoneId zone(String zoneName) {
+        ZoneId zoneId = zones.get(zoneName);
+
+        if (zoneId == null) {
+            try {
+                zoneId = ZoneId.of(zoneName);
+            } catch (DateTimeException dte) {
+                return null;
+            }
+
+            zones.putIfAbsent(zoneName, zoneId);
+        }
+
+        return zoneId;
+    }
+
+    /**
+     * Parse an ISO-8601 date or date time
+     *
+     * <p>
+     * Accepts yyyy-MM-dd, and yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]] followed by Z
+     * or an offset (+HH, +HH:mm, +HH:mm:ss), the same as OffsetDateTime.parse. A date without a time is
+     * midnight. Without an offset, defaultZone is used, and the value is
+     * rejected if there is no defaultZone. A date only value with no
+     * defaultZone is UTC. Years before 0000 or after 9999, written with a sign,
+     * are left to the JDK.</p>
+     *
+     * @param text The text to parse
+     * @param defaultZone Zone for values without an offset, or null
+     *
+     * @return The date time, or null if the text is not valid
+     */
+    static OffsetDateTime parseIso(String text, ZoneId defaultZone) {
+        int len = text.length();
+
+        if (len < 10) {
+            return null;
+        }
+
+        if (text.charAt(0) == '+' || text.charAt(0) == '-') {
+            return parseSigned(text, defaultZone);
+        }
+
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+
+        if (day > daysInMonth(year, month)) {
+            return null;
+        }
+
+        if (len == 10) {
+            ZoneId zoneId = defaultZone != null ? defaultZone : ZoneOffset.UTC;
+
+            return atZone(year, month, day, 0, 0, 0, 0, zoneId);
+        }
+
+        char sep = text.charAt(10);
+
+        if ((sep != 'T' && sep != 't') || len < 16 || text.charAt(13) != ':') {
+            return null;
+        }
+
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = 0;
+        int nano = 0;
+        int pos = 16;
+
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+
+        if (pos < len && text.charAt(pos) == ':') {
+            second = digits(text, pos + 1, 2);
+
+            if (second < 0 || second > 59) {
+                return null;
+            }
+
+            pos += 3;
+
+            if (pos < len && text.charAt(pos) == '.') {
+                int fracStart = ++pos;
+
+                while (pos < len && pos - fracStart < 9 && isDigit(text.charAt(pos))) {
+                    nano = nano * 10 + (text.charAt(pos) - '0');
+                    pos++;
+                }
+
+                int fracLen = pos - fracStart;
+
+                for (int i = fracLen; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+
+        if (pos == len) {
+            return defaultZone != null ? atZone(year, month, day, hour, minute, second, nano, defaultZone) : null;
+        }
+
+        int offsetSeconds = parseOffset(text, pos);
+
+        if (offsetSeconds == Integer.MIN_VALUE) {
+            return null;
+        }
+
+        ZoneOffset offset = offsetSeconds == 0 ? ZoneOffset.UTC : ZoneOffset.ofTotalSeconds(offsetSeconds);
+
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+    }
+
+    /**
+     * Parse with a custom pattern
+     *
+     * <p>
+     * The syntax is checked without throwing. A date without a time is
+     * midnight, and a value without a zone or offset uses defaultZone, or
+     * UTC.</p>
+     *
+     * @param text The text to parse
+     * @param fmt Formatter from {@link #formatter(String)}
+     * @param defaultZone Zone for values without an offset, or null
+     *
+     * @return The date time, or null if the text is not valid
+     */
+    static OffsetDateTime parse(String text, DateTimeFormatter fmt, ZoneId defaultZone) {
+        ParsePosition pos = new ParsePosition(0);
+
+        if (fmt.parseUnresolved(text, pos) == null || pos.getErrorIndex() >= 0 || pos.getIndex() != text.length()) {
+            return null;
+        }
+
+        TemporalAccessor parsed;
+
+        try {
+            // Resolving can still fail for values like Feb 30
+            parsed = fmt.parse(text);
+        } catch (DateTimeException dte) {
+            return null;
+        }
+
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+
+        if (date == null) {
+            return null;
+        }
+
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        ZoneId zoneId = parsed.query(TemporalQueries.zone());
+
+        if (zoneId == null) {
+            zoneId = defaultZone != null ? defaultZone : ZoneOffset.UTC;
+        }
+
+        return ZonedDateTime.of(date, time != null ? time : LocalTime.MIDNIGHT, zoneId).toOffsetDateTime();
+    }
+
+    /**
+     * Format the same as DateTimeFormatter.ISO_DATE_TIME
+     *
+     * @param value The date time to format
+     *
+     * @return ISO-8601 text
+     */
+    static String formatIso(OffsetDateTime value) {
+        int year = value.getYear();
+
+        if (year < 0 || year > 9999) {
+            return value.format(DateTimeFormatter.ISO_DATE_TIME);
+        }
+
+        char[] buf = new char[40];
+        int pos = 0;
+
+        pos = put(buf, pos, year, 4);
+        buf[pos++] = '-';
+        pos = put(buf, pos, value.getMonthValue(), 2);
+        buf[pos++] = '-';
+        pos = put(buf, pos, value.getDayOfMonth(), 2);
+        buf[pos++] = 'T';
+        pos = put(buf, pos, value.getHour(), 2);
+        buf[pos++] = ':';
+        pos = put(buf, pos, value.getMinute(), 2);
+        buf[pos++] = ':';
+        pos = put(buf, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+
+        if (nano > 0) {
+            int digits = 9;
+
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+
+            buf[pos++] = '.';
+            pos = put(buf, pos, nano, digits);
+        }
+
+        int offset = value.getOffset().getTotalSeconds();
+
+        if (offset == 0) {
+            buf[pos++] = 'Z';
+        } else {
+            int absOffset = Math.abs(offset);
+
+            buf[pos++] = offset < 0 ? '-' : '+';
+            pos = put(buf, pos, absOffset / 3600, 2);
+            buf[pos++] = ':';
+            pos = put(buf, pos, (absOffset / 60) % 60, 2);
+
+            if (absOffset % 60 != 0) {
+                buf[pos++] = ':';
+                pos = put(buf, pos, absOffset % 60, 2);
+            }
+        }
+
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * Format with an optional zone and pattern
+     *
+     * @param value The date time to format
+     * @param fmt Formatter from {@link #formatter(String)}, or null for ISO
+     * @param zoneId Zone to convert to first, or null to keep the offset
+     *
+     * @return The formatted text
+     */
+    static String format(OffsetDateTime value, DateTimeFormatter fmt, ZoneId zoneId) {
+        if (fmt == null) {
+            return formatIso(zoneId != null ? value.atZoneSameInstant(zoneId).toOffsetDateTime() : value);
+        }
+
+        return fmt.format(zoneId != null ? value.atZoneSameInstant(zoneId) : value.toZonedDateTime());
+    }
+
+    /**
+     * Parse a date or date time with a signed year, ie: +10000-01-01
+     */
+    private static OffsetDateTime parseSigned(String text, ZoneId defaultZone) {
+        try {
+            if (text.indexOf('T') < 0 && text.indexOf('t') < 0) {
+                return LocalDate.parse(text).atStartOfDay(defaultZone != null ? defaultZone : ZoneOffset.UTC).toOffsetDateTime();
+            }
+
+            try {
+                return OffsetDateTime.parse(text);
+            } catch (DateTimeException dte) {
+                return defaultZone != null ? LocalDateTime.parse(text).atZone(defaultZone).toOffsetDateTime() : null;
+            }
+        } catch (DateTimeException dte) {
+            return null;
+        }
+    }
+
+    private static OffsetDateTime atZone(int year, int month, int day, int hour, int minute, int second, int nano, ZoneId zoneId) {
+        if (zoneId instanceof ZoneOffset offset) {
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+        }
+
+        return ZonedDateTime.of(year, month, day, hour, minute, second, nano, zoneId).toOffsetDateTime();
+    }
+
+    /**
+     * Offset in seconds: Z, +HH, +HH:mm, +HH:mm:ss
+     *
+     * @return Total seconds, or Integer.MIN_VALUE if not valid
+     */
+    private static int parseOffset(String text, int pos) {
+        int len = text.length();
+        char sign = text.charAt(pos);
+
+        if (sign == 'Z' || sign == 'z') {
+            return pos + 1 == len ? 0 : Integer.MIN_VALUE;
+        }
+
+        if (sign != '+' && sign != '-') {
+            return Integer.MIN_VALUE;
+        }
+
+        int hours = digits(text, pos + 1, 2);
+        int minutes = 0;
+        int seconds = 0;
+
+        pos += 3;
+
+        if (hours < 0) {
+            return Integer.MIN_VALUE;
+        }
+
+        if (pos < len && text.charAt(pos) == ':') {
+            minutes = digits(text, pos + 1, 2);
+            pos += 3;
+
+            if (pos < len && text.charAt(pos) == ':') {
+                seconds = digits(text, pos + 1, 2);
+                pos += 3;
+            }
+        }
+
+        if (pos != len || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+            return Integer.MIN_VALUE;
+        }
+
+        int total = hours * 3600 + minutes * 60 + seconds;
+
+        if (total > MAX_OFFSET_SECONDS) {
+            return Integer.MIN_VALUE;
+        }
+
+        return sign == '-' ? -total : total;
+    }
+
+    /**
+     * Read a fixed number of digits
+     *
+     * @return The value, or -1 if out of range or not all digits
+     */
+    private static int digits(String text, int start, int count) {
+        if (start + count > text.length()) {
+            return -1;
+        }
+
+        int value = 0;
+
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+
+            if (!isDigit(c)) {
+                return -1;
+            }
+
+            value = value * 10 + (c - '0');
+        }
+
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 ->
+                (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 ->
+                30;
+            default ->
+                31;
+        };
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int put(char[] buf, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+
+        return pos + width;
+    }
+}
@@ -0,0 +1,148 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Converts only what changed between two versions of a record, with
+ * convertObjectV2 semantics
+ */
+final class DeltaConversion {
+
+    private DeltaConversion() {
+    }
+
+    /**
+     * Compare the subject with the previous version of the subject
+     *
+     * <p>
+     * Each entry of the Convert Object is checked against its source field.
+     * Unchanged fields are skipped, so their methods are never called.
+     * Validation still runs for every field.</p>
+     */
+    static DeltaResult fromSubject(ConversionPlan plan, ApiObject subject, ApiObject previous, ConversionListener listener) throws ApiException {
+        ApiObject changes = new ApiObject();
+        Set<String> changedFields = new LinkedHashSet<>();
+
+        for (FieldRule rule : plan.getRules()) {
+            if (rule.kind == FieldRule.KIND_MAPPED) {
+                Object value = rule.sourcePath != null ? rule.sourcePath.read(subject) : subject.get(rule.configField);
+                Object previousValue = rule.sourcePath != null ? rule.sourcePath.read(previous) : previous.get(rule.configField);
+
+                if (!sameValue(value, previousValue)) {
+                    rule.targetPath.write(changes, value);
+                    changedFields.add(rule.target);
+                }
+            } else if (rule.kind == FieldRule.KIND_OBJECT) {
+                ApiObject source = rule.from(subject);
+
+                // Both sides raw, so a default never counts as a change
+                if (sameValue(source.get(rule.fieldFrom), rule.from(previous).get(rule.fieldFrom))) {
+                    String violation = rule.violation(rule.sourceType(source));
+
+                    if (violation != null) {
+                        throw new ApiException(415, violation);
+                    }
+
+                    continue;
+                }
+
+                ApiObject from = rule.validateV2(subject);
+
+                if (rule.methodName != null) {
+                    rule.invoke(from, changes, rule.fieldFrom, listener);
+
+                    if (rule.targetPath != null && rule.targetPath.read(changes) == null) {
+                        // Method wrote nothing, so the column is cleared
+                        rule.targetPath.write(changes, null);
+                    }
+                } else if (rule.targetPath != null) {
+                    rule.targetPath.write(changes, from.get(rule.fieldFrom));
+                } else {
+                    throw new ApiException(415, String.format("Field <%s> Has No Target Field", rule.configField));
+                }
+
+                if (rule.target != null) {
+                    changedFields.add(rule.target);
+                }
+            }
+        }
+
+        return new DeltaResult(changes, changedFields);
+    }
+
+    /**
+     * Compare the converted subject with the previous converted record
+     *
+     * <p>
+     * The whole subject is converted, since a method has to run before its
+     * result can be compared.</p>
+     */
+    static DeltaResult fromTarget(ConversionPlan plan, ApiObject subject, ApiObject previousTarget) throws ApiException {
+        ApiObject converted = plan.convertSingleV2(subject, false);
+        ApiObject changes = new ApiObject();
+        Set<String> changedFields = new LinkedHashSet<>();
+
+        for (FieldRule rule : plan.getRules()) {
+            if (rule.targetPath == null || changedFields.contains(rule.target)) {
+                continue;
+            }
+
+            Object value = rule.targetPath.read(converted);
+
+            if (!sameValue(value, rule.targetPath.read(previousTarget))) {
+                rule.targetPath.write(changes, value);
+                changedFields.add(rule.target);
+            }
+        }
+
+        return new DeltaResult(changes, changedFields);
+    }
+
+    /**
+     * Deep comparison, so ApiObjects and lists compare by content
+     */
+    static boolean sameValue(Object value, Object other) {
+        if (value == other) {
+            return true;
+        }
+
+        if (value == null || other == null) {
+            return false;
+        }
+
+        if (value instanceof ApiObject obj && other instanceof ApiObject otherObj) {
+            if (obj.keySet().size() != otherObj.keySet().size()) {
+                return false;
+            }
+
+            for (String key : obj.keySet()) {
+                if (!otherObj.containsKey(key) || !sameValue(obj.get(key), otherObj.get(key))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (value instanceof List<?> lst && other instanceof List<?> otherLst) {
+            if (lst.size() != otherLst.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < lst.size(); i++) {
+                if (!sameValue(lst.get(i), otherLst.get(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return Objects.equals(value, other);
+    }
+}
@@ -0,0 +1,59 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * The target fields that changed between two versions of a record
+ */
+public final class DeltaResult {
+
+    private final ApiObject changes;
+    private final Set<String> changedFields;
+
+    DeltaResult(ApiObject changes, Set<String> changedFields) {
+        this.changes = changes;
+        this.changedFields = Collections.unmodifiableSet(changedFields);
+    }
+
+    /**
+     * Converted values of the changed fields only
+     *
+     * <p>
+     * A field that was removed from the subject is present with a null
+     * value.</p>
+     *
+     * @return The changed target fields
+     */
+    public ApiObject getChanges() {
+        return changes;
+    }
+
+    /**
+     * Names of the changed target fields, in Convert Object order
+     *
+     * <p>
+     * Use to build an UPDATE of just these columns. Nested targets are the
+     * full path, ie: <code>address.city</code>.</p>
+     *
+     * @return Changed target field names
+     */
+    public Set<String> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * Did anything change
+     *
+     * @return true if no target field changed
+     */
+    public boolean isEmpty() {
+        return changedFields.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return changedFields.toString();
+    }
+}
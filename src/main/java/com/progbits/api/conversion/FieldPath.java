@@ -0,0 +1,329 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A field name in dot notation, parsed once into its steps
+ *
+ * <p>
+ * Supports any depth of objects and list indexes, ie:
+ * <code>address.geo.lat</code> or <code>items[0].sku</code>. Writes create
+ * the objects and lists along the path, and reuse them when they already
+ * exist, so every field under the same parent shares one object.</p>
+ *
+ * <p>
+ * A backslash includes the next character in the name, ie:
+ * <code>version\.major</code>. A name that is not a valid path, ie:
+ * <code>a..b</code> or <code>tags[x]</code>, is a single field with that
+ * literal name.</p>
+ */
+public final class FieldPath {
+
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    private static final Map<String, FieldPath> paths = new ConcurrentHashMap<>();
+
+    private final String text;
+
+    /*
+      Name for each step, null for an index step
+     */
+    private final String[] names;
+
+    /*
+      Index for each step, -1 for a name step
+     */
+    private final int[] indexes;
+
+    private FieldPath(String text, String[] names, int[] indexes) {
+        this.text = text;
+        this.names = names;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Parsed path for a field name, cached
+     *
+     * @param text Field name, ie: address.city or items[0].sku
+     *
+     * @return The path, or a single literal field if the name is not a
+     * valid path
+     */
+    public static FieldPath of(String text) {
+        FieldPath path = paths.get(text);
+
+        if (path == null) {
+            path = parse(text);
+
+            if (path == null) {
+                path = new FieldPath(text, new String[]{text}, new int[]{-1});
+            }
+
+            if (paths.size() >= MAX_CACHED_PATHS) {
+                paths.clear();
+            }
+
+            paths.putIfAbsent(text, path);
+        }
+
+        return path;
+    }
+
+    /**
+     * Does a field name need a FieldPath, or is it a plain field
+     *
+     * @param text Field name
+     *
+     * @return true if the name contains a dot, an index or an escape
+     */
+    public static boolean isPath(String text) {
+        return text.indexOf('.') > -1 || text.indexOf('[') > -1 || text.indexOf('\\') > -1;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Is this path a single plain field
+     *
+     * @return true if there is one step, and it is a name
+     */
+    public boolean isSimple() {
+        return names.length == 1 && names[0] != null;
+    }
+
+    /**
+     * Read the value at this path
+     *
+     * @param root Object to read from
+     *
+     * @return The value, or null if any step along the path is missing
+     */
+    public Object read(ApiObject root) {
+        Object current = root;
+
+        for (int i = 0; i < names.length && current != null; i++) {
+            current = step(current, i);
+        }
+
+        return current;
+    }
+
+    /**
+     * Write a value at this path, creating objects and lists as needed
+     *
+     * <p>
+     * A step that holds a value of the wrong type is replaced. An index past
+     * the end of a list appends to it, so write indexes in order.</p>
+     *
+     * @param root Object to write to
+     * @param value The value to write
+     */
+    @SuppressWarnings("unchecked")
+    public void write(ApiObject root, Object value) {
+        Object current = root;
+        int last = names.length - 1;
+
+        for (int i = 0; i < last; i++) {
+            boolean nextIsIndex = names[i + 1] == null;
+
+            if (names[i] != null) {
+                ApiObject obj = (ApiObject) current;
+
+                if (nextIsIndex) {
+                    if (!(obj.get(names[i]) instanceof List)) {
+                        obj.createList(names[i]);
+                    }
+
+                    current = obj.getList(names[i]);
+                } else {
+                    if (obj.getType(names[i]) != ApiObject.TYPE_OBJECT) {
+                        obj.createObject(names[i]);
+                    }
+
+                    current = obj.getObject(names[i]);
+                }
+            } else {
+                List<Object> lst = (List<Object>) current;
+                Object entry = indexes[i] < lst.size() ? lst.get(indexes[i]) : null;
+
+                if (nextIsIndex) {
+                    if (!(entry instanceof List)) {
+                        entry = new ArrayList<>();
+
+                        set(lst, indexes[i], entry);
+                    }
+                } else if (!(entry instanceof ApiObject)) {
+                    entry = new ApiObject();
+
+                    set(lst, indexes[i], entry);
+                }
+
+                current = entry;
+            }
+        }
+
+        if (names[last] != null) {
+            ((ApiObject) current).put(names[last], value);
+        } else {
+            set((List<Object>) current, indexes[last], value);
+        }
+    }
+
+    /**
+     * The object holding the last step, with the name of the last step
+     *
+     * <p>
+     * Used to hand a nested field to a method, which reads
+     * <code>from.get(fieldFrom)</code>. When the path ends in an index, or a
+     * parent is missing, a new object holding just the value is returned,
+     * under {@link #leafName()}.</p>
+     *
+     * @param root Object to read from
+     *
+     * @return The parent object, never null
+     */
+    ApiObject container(ApiObject root) {
+        int last = names.length - 1;
+
+        if (names[last] != null) {
+            Object current = root;
+
+            for (int i = 0; i < last && current != null; i++) {
+                current = step(current, i);
+            }
+
+            if (current instanceof ApiObject parent) {
+                return parent;
+            }
+        }
+
+        ApiObject respObj = new ApiObject();
+
+        respObj.put(leafName(), names[last] != null ? null : read(root));
+
+        return respObj;
+    }
+
+    /**
+     * Field name to use with {@link #container(ApiObject)}
+     *
+     * @return The last name, or the full path if the path ends in an index
+     */
+    String leafName() {
+        String last = names[names.length - 1];
+
+        return last != null ? last : text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private Object step(Object current, int i) {
+        if (names[i] != null) {
+            return current instanceof ApiObject obj ? obj.get(names[i]) : null;
+        } else if (current instanceof List<?> lst) {
+            return indexes[i] < lst.size() ? lst.get(indexes[i]) : null;
+        } else {
+            return null;
+        }
+    }
+
+    private static void set(List<Object> lst, int index, Object value) {
+        if (index < lst.size()) {
+            lst.set(index, value);
+        } else {
+            lst.add(value);
+        }
+    }
+
+    /*
+      Null if the text is not a valid path
+     */
+    private static FieldPath parse(String text) {
+        List<String> lstNames = new ArrayList<>();
+        List<Integer> lstIndexes = new ArrayList<>();
+        int len = text.length();
+        int pos = 0;
+
+        while (true) {
+            StringBuilder name = new StringBuilder();
+
+            while (pos < len && text.charAt(pos) != '.' && text.charAt(pos) != '[') {
+                char ch = text.charAt(pos++);
+
+                if (ch == '\\') {
+                    if (pos == len) {
+                        return null;
+                    }
+
+                    ch = text.charAt(pos++);
+                }
+
+                name.append(ch);
+            }
+
+            if (name.isEmpty()) {
+                return null;
+            }
+
+            lstNames.add(name.toString());
+            lstIndexes.add(-1);
+
+            while (pos < len && text.charAt(pos) == '[') {
+                int end = text.indexOf(']', pos);
+                int index = end > -1 ? index(text, pos + 1, end) : -1;
+
+                if (index < 0) {
+                    return null;
+                }
+
+                lstNames.add(null);
+                lstIndexes.add(index);
+                pos = end + 1;
+            }
+
+            if (pos == len) {
+                break;
+            }
+
+            if (text.charAt(pos) != '.') {
+                return null;
+            }
+
+            pos++;
+        }
+
+        return new FieldPath(text, lstNames.toArray(String[]::new), lstIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /*
+      Index between start and end, or -1 if it is not 1 to 9 digits
+     */
+    private static int index(String text, int start, int end) {
+        if (end == start || end - start > 9) {
+            return -1;
+        }
+
+        int index = 0;
+
+        for (int i = start; i < end; i++) {
+            char ch = text.charAt(i);
+
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+
+            index = index * 10 + (ch - '0');
+        }
+
+        return index;
+    }
+}
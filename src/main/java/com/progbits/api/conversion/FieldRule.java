@@ -0,0 +1,310 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.List;
+
+/**
+ * A single compiled entry from a Convert Object.
+ *
+ * <p>
+ * Everything that was previously looked up per record (method name, target
+ * field, `#` suffix, validation settings) is resolved once when the rule is
+ * compiled.</p>
+ */
+final class FieldRule {
+
+    static final int KIND_MAPPED = 1;
+    static final int KIND_OBJECT = 2;
+    static final int KIND_PASSTHROUGH = 3;
+
+    static final int TYPE_UNKNOWN = Integer.MIN_VALUE;
+
+    final int kind;
+    final String configField;
+    final String subjectField;
+    final FieldPath sourcePath;
+    final String fieldFrom;
+    final String target;
+    final FieldPath targetPath;
+    final String methodName;
+    final ApiObject processObj;
+    final MethodRegistry.Binding binding;
+    final boolean hasDefault;
+    final Object defaultValue;
+    final int defaultType;
+    final boolean required;
+    final String typeName;
+    final int typeCode;
+    final int batchSize;
+
+    private FieldRule(int kind, String configField, String target, ApiObject processObj, MethodRegistry.Binding binding) {
+        this.kind = kind;
+        this.configField = configField;
+        this.target = target;
+        this.targetPath = target != null ? FieldPath.of(target) : null;
+        this.processObj = processObj;
+        this.binding = binding;
+
+        int hashIdx = configField.indexOf('#');
+
+        this.subjectField = kind == KIND_OBJECT && hashIdx > -1 ? configField.substring(0, hashIdx) : configField;
+        this.sourcePath = kind != KIND_PASSTHROUGH && FieldPath.isPath(subjectField) ? FieldPath.of(subjectField) : null;
+        this.fieldFrom = sourcePath != null ? sourcePath.leafName() : subjectField;
+
+        if (processObj != null) {
+            this.methodName = processObj.getString(ApiObjectConverter.FIELD_METHOD);
+            this.hasDefault = processObj.isSet("default");
+            this.defaultValue = hasDefault ? processObj.get("default") : null;
+            this.defaultType = hasDefault ? processObj.getType("default") : ApiObject.TYPE_NULL;
+            this.required = processObj.isSet(ApiObjectConverter.FIELD_REQUIRED);
+            this.typeName = processObj.isSet(ApiObjectConverter.FIELD_TYPE) ? processObj.getString(ApiObjectConverter.FIELD_TYPE) : null;
+            this.typeCode = typeName != null ? typeCode(typeName) : TYPE_UNKNOWN;
+            this.batchSize = processObj.getType(ApiObjectConverter.FIELD_BATCH_SIZE) == ApiObject.TYPE_INTEGER ? processObj.getInteger(ApiObjectConverter.FIELD_BATCH_SIZE) : 0;
+        } else {
+            this.methodName = null;
+            this.hasDefault = false;
+            this.defaultValue = null;
+            this.defaultType = ApiObject.TYPE_NULL;
+            this.required = false;
+            this.typeName = null;
+            this.typeCode = TYPE_UNKNOWN;
+            this.batchSize = 0;
+        }
+    }
+
+    static FieldRule mapped(String configField, String target) {
+        return new FieldRule(KIND_MAPPED, configField, target, null, null);
+    }
+
+    static FieldRule object(String configField, ApiObject processObj, MethodRegistry.Binding binding) {
+        return new FieldRule(KIND_OBJECT, configField, processObj.getString(ApiObjectConverter.FIELD_FIELD), processObj, binding);
+    }
+
+    static FieldRule passthrough(String configField) {
+        return new FieldRule(KIND_PASSTHROUGH, configField, null, null, null);
+    }
+
+    /**
+     * Resolve a type name from the Convert Object to an ApiObject TYPE_ code
+     *
+     * @param typeString string, integer, long, object, boolean, arraylist,
+     * stringarray
+     *
+     * @return The ApiObject type, or TYPE_UNKNOWN
+     */
+    static int typeCode(String typeString) {
+        return switch (typeString) {
+            case "string" ->
+                ApiObject.TYPE_STRING;
+            case "integer" ->
+                ApiObject.TYPE_INTEGER;
+            case "long" ->
+                ApiObject.TYPE_LONG;
+            case "object" ->
+                ApiObject.TYPE_OBJECT;
+            case "boolean" ->
+                ApiObject.TYPE_BOOLEAN;
+            case "arraylist" ->
+                ApiObject.TYPE_ARRAYLIST;
+            case "stringarray" ->
+                ApiObject.TYPE_STRINGARRAY;
+
+            default ->
+                TYPE_UNKNOWN;
+        };
+    }
+
+    /**
+     * Copy the fields a method wrote to a scratch object into a record
+     *
+     * <p>
+     * Objects created for dotted targets are merged, at any depth, with an
+     * existing object of the same name.</p>
+     */
+    static void merge(ApiObject respObj, ApiObject scratch) {
+        for (String key : scratch.keySet()) {
+            Object value = scratch.get(key);
+
+            if (value instanceof ApiObject child && respObj.getType(key) == ApiObject.TYPE_OBJECT) {
+                merge(respObj.getObject(key), child);
+            } else {
+                respObj.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Run the bound method, or fail the same way an unknown method always has
+     *
+     * @param listener Instrumentation listener, null when disabled
+     */
+    void invoke(ApiObject from, ApiObject to, String fieldFrom, ConversionListener listener) throws ApiException {
+        ApiMethodHandler handler = binding.getHandler();
+
+        if (handler == null) {
+            throw new ApiException(415, String.format("Method <%s> for Field <%s> Does Not Exist", methodName, fieldFrom));
+        }
+
+        if (listener == null) {
+            handler.process(from, to, fieldFrom, processObj);
+        } else {
+            long start = System.nanoTime();
+
+            try {
+                handler.process(from, to, fieldFrom, processObj);
+            } catch (ApiException apx) {
+                listener.methodFailed(methodName, apx, System.nanoTime() - start);
+
+                throw apx;
+            }
+
+            listener.methodCompleted(methodName, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The bound method, if it is a BatchApiMethodHandler
+     *
+     * @return The handler, or null
+     */
+    BatchApiMethodHandler batchHandler() {
+        if (binding != null && binding.getHandler() instanceof BatchApiMethodHandler batch) {
+            return batch;
+        }
+
+        return null;
+    }
+
+    /**
+     * Run a BatchApiMethodHandler over one batch of records
+     *
+     * @param listener Instrumentation listener, null when disabled
+     */
+    void invokeBatch(BatchApiMethodHandler handler, List<ApiObject> from, List<ApiObject> to, ConversionListener listener) throws ApiException {
+        if (listener == null) {
+            handler.processBatch(from, to, fieldFrom, processObj);
+        } else {
+            long start = System.nanoTime();
+
+            try {
+                handler.processBatch(from, to, fieldFrom, processObj);
+            } catch (ApiException apx) {
+                listener.methodFailed(methodName, apx, System.nanoTime() - start);
+
+                throw apx;
+            }
+
+            listener.methodCompleted(methodName, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Apply this rule with convertObject semantics
+     */
+    void applyV1(ApiObject subject, ApiObject respObj, ConversionListener listener) throws ApiException {
+        if (kind == KIND_MAPPED) {
+            targetPath.write(respObj, subject.get(configField));
+        } else if (methodName != null) {
+            invoke(subject, respObj, configField, listener);
+        }
+    }
+
+    /**
+     * Apply this rule with convertObjectV2 semantics
+     */
+    void applyV2(ApiObject subject, ApiObject respObj, ConversionListener listener) throws ApiException {
+        if (kind == KIND_MAPPED) {
+            targetPath.write(respObj, sourcePath != null ? sourcePath.read(subject) : subject.get(configField));
+        } else if (methodName != null) {
+            invoke(validateV2(subject), respObj, fieldFrom, listener);
+        } else if (targetPath != null) {
+            ApiObject from = from(subject);
+            int type = sourceType(from);
+            String violation = violation(type);
+
+            if (violation != null) {
+                throw new ApiException(415, violation);
+            }
+
+            targetPath.write(respObj, hasDefault && type == ApiObject.TYPE_NULL ? defaultValue : from.get(fieldFrom));
+        } else {
+            throw new ApiException(415, String.format("Field <%s> Has No Target Field", configField));
+        }
+    }
+
+    /**
+     * The object holding the source field, read with {@link #fieldFrom}
+     */
+    ApiObject from(ApiObject subject) {
+        return sourcePath != null ? sourcePath.container(subject) : subject;
+    }
+
+    /**
+     * Apply default, required and type with convertObjectV2 semantics
+     *
+     * <p>
+     * The subject is never changed. When the default applies, a shallow copy
+     * of the object holding the source field is returned with the default
+     * set, so a method still sees every other field of the record.</p>
+     *
+     * @return The object holding the source field, read with fieldFrom
+     */
+    ApiObject validateV2(ApiObject subject) throws ApiException {
+        ApiObject from = from(subject);
+        int type = sourceType(from);
+        String violation = violation(type);
+
+        if (violation != null) {
+            throw new ApiException(415, violation);
+        }
+
+        if (hasDefault && type == ApiObject.TYPE_NULL) {
+            ApiObject copy = new ApiObject();
+
+            copy.putAll(from);
+            copy.put(fieldFrom, defaultValue);
+
+            return copy;
+        }
+
+        return from;
+    }
+
+    /**
+     * ApiObject type of the source field
+     */
+    int sourceType(ApiObject from) {
+        return from.getType(fieldFrom);
+    }
+
+    /**
+     * Check required and type against the type of the source field
+     *
+     * @param type ApiObject type of the source field, before the default
+     *
+     * @return The violation, or null if the field is valid
+     */
+    String violation(int type) {
+        if (hasDefault && type == ApiObject.TYPE_NULL) {
+            type = defaultType;
+        }
+
+        if (required && type == ApiObject.TYPE_NULL) {
+            return subjectField + " IS Required";
+        }
+
+        if (typeName != null && (typeCode == TYPE_UNKNOWN || type != typeCode)) {
+            return subjectField + " Expected Type " + typeName;
+        }
+
+        return null;
+    }
+
+    /**
+     * Does this rule check anything with convertObjectV2 semantics
+     */
+    boolean validates() {
+        return required || typeName != null;
+    }
+}
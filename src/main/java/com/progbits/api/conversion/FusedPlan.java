@@ -0,0 +1,392 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Two or more Plans fused into a single pass, with convertObjectV2
+ * semantics
+ *
+ * <p>
+ * Each field of the last stage is traced back through the earlier stages to
+ * the subject. Chained renames collapse to one copy, and methods run back to
+ * back on small scratch objects, so no intermediate record is built. The
+ * result equals applying each stage in turn with includeAll false. Obtain one
+ * with {@link ApiObjectConverter#compose(ApiObject...)}.</p>
+ *
+ * <p>
+ * Methods of later stages receive an object holding only the field they
+ * convert, and methods whose result is dropped by a later stage are not
+ * called. When several fields fail, the error reported may differ from
+ * sequential conversion.</p>
+ */
+public final class FusedPlan {
+
+    private static final Object UNSET = new Object();
+
+    private final String name;
+    private final Validator validator;
+    private final FieldRule[] firstRules;
+
+    /*
+      Memo slot holding the validated source object of each first stage rule
+     */
+    private final int[] firstSlots;
+    private final Output[] outputs;
+    private final int nodeCount;
+
+    private FusedPlan(String name, Validator validator, FieldRule[] firstRules, int[] firstSlots, Output[] outputs, int nodeCount) {
+        this.name = name;
+        this.validator = validator;
+        this.firstRules = firstRules;
+        this.firstSlots = firstSlots;
+        this.outputs = outputs;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Name reported by instrumentation
+     *
+     * @return Names of the stages, ie: CONVERT_API &gt; CONVERT_DB
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks of the first stage, the only one that sees the subject
+     */
+    Validator getValidator() {
+        return validator;
+    }
+
+    /**
+     * Convert a single ApiObject
+     *
+     * @param subject The subject to perform the conversion on
+     * @param listener Instrumentation listener, null when disabled
+     *
+     * @return The Converted Object
+     *
+     * @throws ApiException
+     */
+    ApiObject convertSingle(ApiObject subject, ConversionListener listener) throws ApiException {
+        Object[] memo = new Object[nodeCount];
+
+        Arrays.fill(memo, UNSET);
+
+        for (int i = 0; i < firstRules.length; i++) {
+            memo[firstSlots[i]] = firstRules[i].validateV2(subject);
+        }
+
+        ApiObject respObj = new ApiObject();
+
+        for (Output output : outputs) {
+            output.apply(subject, respObj, memo, listener);
+        }
+
+        return respObj;
+    }
+
+    /**
+     * Fuse Plans, or report why they can not be fused
+     *
+     * @param plans The stages, in the order they are applied
+     * @param issues Receives a message per field that can not be fused
+     *
+     * @return The fused Plan, or null if there are issues
+     */
+    static FusedPlan compose(List<ConversionPlan> plans, List<String> issues) {
+        if (plans.size() < 2) {
+            throw new IllegalArgumentException("At least two Mappings are required");
+        }
+
+        int[] nextId = {0};
+        List<FieldRule> firstRules = new ArrayList<>();
+        List<Integer> firstSlots = new ArrayList<>();
+        Map<String, Node> producers = new HashMap<>();
+        Set<String> duplicates = new HashSet<>();
+        List<String> untargeted = new ArrayList<>();
+
+        for (FieldRule rule : plans.get(0).getRules()) {
+            if (rule.kind == FieldRule.KIND_PASSTHROUGH) {
+                continue;
+            }
+
+            int fromSlot = -1;
+
+            if (rule.kind == FieldRule.KIND_OBJECT) {
+                fromSlot = nextId[0]++;
+
+                firstRules.add(rule);
+                firstSlots.add(fromSlot);
+            }
+
+            Node node;
+
+            if (rule.methodName != null) {
+                node = new MethodNode(nextId[0]++, rule, null, fromSlot);
+            } else {
+                node = new SourceNode(nextId[0]++, rule, fromSlot);
+            }
+
+            if (rule.target == null) {
+                if (rule.methodName != null) {
+                    untargeted.add(rule.methodName);
+                } else {
+                    issues.add(String.format("Stage 1 Field <%s> Has No Target Field", rule.configField));
+                }
+            } else if (producers.put(rule.target, node) != null) {
+                duplicates.add(rule.target);
+            }
+        }
+
+        List<Output> outputs = new ArrayList<>();
+
+        for (int stage = 1; stage < plans.size(); stage++) {
+            boolean last = stage == plans.size() - 1;
+            Map<String, Node> nextProducers = new HashMap<>();
+            Set<String> nextDuplicates = new HashSet<>();
+            List<String> nextUntargeted = new ArrayList<>();
+
+            for (FieldRule rule : plans.get(stage).getRules()) {
+                if (rule.kind == FieldRule.KIND_PASSTHROUGH) {
+                    continue;
+                }
+
+                String source = rule.subjectField;
+                Node input = producers.get(source);
+
+                if (input == null || duplicates.contains(source)) {
+                    issues.add(describe(stage, source, producers, duplicates, untargeted));
+
+                    continue;
+                }
+
+                if (rule.kind == FieldRule.KIND_OBJECT && rule.methodName == null && rule.target == null) {
+                    issues.add(String.format("Stage %d Field <%s> Has No Target Field", stage + 1, rule.configField));
+
+                    continue;
+                }
+
+                if (last && rule.methodName != null) {
+                    outputs.add(new MethodOutput(rule, input));
+
+                    continue;
+                }
+
+                Node node;
+
+                if (rule.methodName != null) {
+                    node = new MethodNode(nextId[0]++, rule, input, -1);
+                } else if (rule.kind == FieldRule.KIND_OBJECT && (rule.hasDefault || rule.required || rule.typeName != null)) {
+                    node = new ValidateNode(nextId[0]++, rule, input);
+                } else {
+                    // Chained rename, reuse the value from the earlier stage
+                    node = input;
+                }
+
+                if (last) {
+                    outputs.add(new CopyOutput(rule.targetPath, node));
+                } else if (rule.target == null) {
+                    nextUntargeted.add(rule.methodName);
+                } else if (nextProducers.put(rule.target, node) != null) {
+                    nextDuplicates.add(rule.target);
+                }
+            }
+
+            producers = nextProducers;
+            duplicates = nextDuplicates;
+            untargeted = nextUntargeted;
+        }
+
+        if (!issues.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder sbName = new StringBuilder();
+
+        for (ConversionPlan plan : plans) {
+            if (!sbName.isEmpty()) {
+                sbName.append(" > ");
+            }
+
+            sbName.append(plan.getName());
+        }
+
+        return new FusedPlan(sbName.toString(), plans.get(0).getValidator(), firstRules.toArray(FieldRule[]::new), firstSlots.stream().mapToInt(Integer::intValue).toArray(),
+                outputs.toArray(Output[]::new), nextId[0]);
+    }
+
+    private static String describe(int stage, String source, Map<String, Node> producers, Set<String> duplicates, List<String> untargeted) {
+        String prefix = String.format("Stage %d Field <%s> ", stage + 1, source);
+
+        if (duplicates.contains(source)) {
+            return prefix + "Is Written By More Than One Field of Stage " + stage;
+        }
+
+        for (String produced : producers.keySet()) {
+            if (produced.startsWith(source + ".") || produced.startsWith(source + "[")
+                    || source.startsWith(produced + ".") || source.startsWith(produced + "[")) {
+                return prefix + "Only Partly Matches <" + produced + "> of Stage " + stage;
+            }
+        }
+
+        if (!untargeted.isEmpty()) {
+            return prefix + "May Be Written By Method " + untargeted + " of Stage " + stage + ", Which Has No Target Field";
+        }
+
+        return prefix + "Is Dropped By Stage " + stage;
+    }
+
+    /**
+     * Holder for a value of an earlier stage, read by a later stage rule
+     */
+    private static ApiObject holder(FieldRule rule, Object value) {
+        ApiObject holder = new ApiObject();
+
+        if (rule.sourcePath != null) {
+            rule.sourcePath.write(holder, value);
+        } else {
+            holder.put(rule.subjectField, value);
+        }
+
+        return holder;
+    }
+
+    /**
+     * Produces the value of a field at some stage, once per record
+     */
+    private abstract static class Node {
+
+        final int id;
+
+        Node(int id) {
+            this.id = id;
+        }
+
+        Object value(ApiObject subject, Object[] memo, ConversionListener listener) throws ApiException {
+            Object value = memo[id];
+
+            if (value == UNSET) {
+                value = compute(subject, memo, listener);
+                memo[id] = value;
+            }
+
+            return value;
+        }
+
+        abstract Object compute(ApiObject subject, Object[] memo, ConversionListener listener) throws ApiException;
+    }
+
+    /**
+     * A field copied from the subject by the first stage
+     */
+    private static final class SourceNode extends Node {
+
+        private final FieldRule rule;
+        private final int fromSlot;
+
+        SourceNode(int id, FieldRule rule, int fromSlot) {
+            super(id);
+            this.rule = rule;
+            this.fromSlot = fromSlot;
+        }
+
+        @Override
+        Object compute(ApiObject subject, Object[] memo, ConversionListener listener) {
+            if (rule.kind == FieldRule.KIND_MAPPED) {
+                return rule.sourcePath != null ? rule.sourcePath.read(subject) : subject.get(rule.configField);
+            }
+
+            return ((ApiObject) memo[fromSlot]).get(rule.fieldFrom);
+        }
+    }
+
+    /**
+     * A method of any stage but the last, read back from its target field
+     */
+    private static final class MethodNode extends Node {
+
+        private final FieldRule rule;
+        private final Node input;
+
+        /*
+          Memo slot of the validated source, when input is null
+         */
+        private final int fromSlot;
+
+        MethodNode(int id, FieldRule rule, Node input, int fromSlot) {
+            super(id);
+            this.rule = rule;
+            this.input = input;
+            this.fromSlot = fromSlot;
+        }
+
+        @Override
+        Object compute(ApiObject subject, Object[] memo, ConversionListener listener) throws ApiException {
+            ApiObject from = input == null ? (ApiObject) memo[fromSlot] : rule.validateV2(holder(rule, input.value(subject, memo, listener)));
+            ApiObject scratch = new ApiObject();
+
+            rule.invoke(from, scratch, rule.fieldFrom, listener);
+
+            return rule.targetPath.read(scratch);
+        }
+    }
+
+    /**
+     * default, required and type of a later stage copy
+     */
+    private static final class ValidateNode extends Node {
+
+        private final FieldRule rule;
+        private final Node input;
+
+        ValidateNode(int id, FieldRule rule, Node input) {
+            super(id);
+            this.rule = rule;
+            this.input = input;
+        }
+
+        @Override
+        Object compute(ApiObject subject, Object[] memo, ConversionListener listener) throws ApiException {
+            return rule.validateV2(holder(rule, input.value(subject, memo, listener))).get(rule.fieldFrom);
+        }
+    }
+
+    /**
+     * A field of the last stage
+     */
+    private interface Output {
+
+        void apply(ApiObject subject, ApiObject respObj, Object[] memo, ConversionListener listener) throws ApiException;
+    }
+
+    private record CopyOutput(FieldPath targetPath, Node node) implements Output {
+
+        @Override
+        public void apply(ApiObject subject, ApiObject respObj, Object[] memo, ConversionListener listener) throws ApiException {
+            targetPath.write(respObj, node.value(subject, memo, listener));
+        }
+    }
+
+    /**
+     * A method of the last stage, writing straight to the result
+     */
+    private record MethodOutput(FieldRule rule, Node input) implements Output {
+
+        @Override
+        public void apply(ApiObject subject, ApiObject respObj, Object[] memo, ConversionListener listener) throws ApiException {
+            ApiObject from = rule.validateV2(holder(rule, input.value(subject, memo, listener)));
+
+            rule.invoke(from, respObj, rule.fieldFrom, listener);
+        }
+    }
+}
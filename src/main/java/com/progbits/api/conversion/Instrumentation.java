@@ -0,0 +1,69 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds the active ConversionListener, null when instrumentation is disabled
+ *
+ * <p>
+ * The hot path only reads the volatile listener field. Multiple listeners are
+ * combined into a single listener when they change.</p>
+ */
+final class Instrumentation {
+
+    volatile ConversionListener listener;
+
+    private final List<ConversionListener> listeners = new CopyOnWriteArrayList<>();
+
+    synchronized void add(ConversionListener lclListener) {
+        listeners.add(lclListener);
+        rebuild();
+    }
+
+    synchronized void remove(ConversionListener lclListener) {
+        listeners.remove(lclListener);
+        rebuild();
+    }
+
+    private void rebuild() {
+        if (listeners.isEmpty()) {
+            listener = null;
+        } else if (listeners.size() == 1) {
+            listener = listeners.get(0);
+        } else {
+            ConversionListener[] arrListeners = listeners.toArray(ConversionListener[]::new);
+
+            listener = new ConversionListener() {
+                @Override
+                public void conversionCompleted(String mapping, int records, long nanos) {
+                    for (var entry : arrListeners) {
+                        entry.conversionCompleted(mapping, records, nanos);
+                    }
+                }
+
+                @Override
+                public void conversionFailed(String mapping, ApiException apx, long nanos) {
+                    for (var entry : arrListeners) {
+                        entry.conversionFailed(mapping, apx, nanos);
+                    }
+                }
+
+                @Override
+                public void methodCompleted(String method, long nanos) {
+                    for (var entry : arrListeners) {
+                        entry.methodCompleted(method, nanos);
+                    }
+                }
+
+                @Override
+                public void methodFailed(String method, ApiException apx, long nanos) {
+                    for (var entry : arrListeners) {
+                        entry.methodFailed(method, apx, nanos);
+                    }
+                }
+            };
+        }
+    }
+}
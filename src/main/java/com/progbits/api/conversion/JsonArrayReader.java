@@ -0,0 +1,134 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits a JSON Array into the text of its elements, one element at a time
+ *
+ * <p>
+ * Only the current element is held in memory. The element text is reused
+ * between calls to next.</p>
+ */
+final class JsonArrayReader {
+
+    private static final int STATE_START = 0;
+    private static final int STATE_ARRAY = 1;
+    private static final int STATE_DONE = 2;
+
+    private final Reader in;
+    private final StringBuilder sbElement = new StringBuilder(512);
+
+    private int state = STATE_START;
+    private int pushBack = -1;
+    private long index = 0;
+
+    JsonArrayReader(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+    }
+
+    /**
+     * Text of the next Object in the array
+     *
+     * @return The element, or null at the end of the array
+     *
+     * @throws IOException
+     * @throws ApiException 410 if the input is not an array of JSON Objects
+     */
+    CharSequence next() throws IOException, ApiException {
+        if (state == STATE_START) {
+            if (readNonWhitespace() != '[') {
+                throw new ApiException(410, "Expected a JSON Array");
+            }
+
+            state = STATE_ARRAY;
+
+            int c = readNonWhitespace();
+
+            if (c == ']') {
+                state = STATE_DONE;
+            } else {
+                pushBack = c;
+            }
+        }
+
+        if (state == STATE_DONE) {
+            return null;
+        }
+
+        int c = readNonWhitespace();
+
+        if (c != '{') {
+            throw new ApiException(410, "Entry " + index + " MUST be a JSON Object");
+        }
+
+        sbElement.setLength(0);
+        sbElement.append('{');
+
+        int depth = 1;
+        boolean inString = false;
+        boolean escape = false;
+
+        while (depth > 0) {
+            c = read();
+
+            if (c < 0) {
+                throw new ApiException(410, "Unexpected end of JSON Array at Entry " + index);
+            }
+
+            sbElement.append((char) c);
+
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                } else if (c == '\\') {
+                    escape = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+
+        c = readNonWhitespace();
+
+        if (c == ']') {
+            state = STATE_DONE;
+        } else if (c != ',') {
+            throw new ApiException(410, "Expected , or ] after Entry " + index);
+        }
+
+        index++;
+
+        return sbElement;
+    }
+
+    private int read() throws IOException {
+        if (pushBack >= 0) {
+            int c = pushBack;
+
+            pushBack = -1;
+
+            return c;
+        }
+
+        return in.read();
+    }
+
+    private int readNonWhitespace() throws IOException {
+        int c;
+
+        do {
+            c = read();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+
+        return c;
+    }
+}
@@ -0,0 +1,319 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiClassNotFoundException;
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import com.progbits.api.parser.JsonObjectParser;
+import com.progbits.api.writer.JsonObjectWriter;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * JSON parsing and writing with pooled parsers and buffers
+ *
+ * <p>
+ * Each call borrows a parser, a writer and their buffers from a small lock
+ * free pool, so no two threads share a parser, and buffers are reused across
+ * calls. A pool is used instead of a ThreadLocal, which would hold a set per
+ * virtual thread and never reuse it. When every entry is in use, a new one is
+ * created for the call.</p>
+ *
+ * <p>
+ * UTF-8 input is decoded into a pooled char buffer that the parser reads
+ * directly, without building an intermediate String. The writer only
+ * produces a String, so output is encoded with String.getBytes.</p>
+ */
+final class JsonCodec {
+
+    private static final int POOL_SIZE = Integer.highestOneBit(Math.max(4, Runtime.getRuntime().availableProcessors() * 2) - 1) << 1;
+
+    /*
+      Buffers grown past this are not kept when returned to the pool
+     */
+    private static final int MAX_RETAINED = 1 << 20;
+
+    private static final AtomicReferenceArray<Buffers> pool = new AtomicReferenceArray<>(POOL_SIZE);
+
+    private JsonCodec() {
+    }
+
+    /**
+     * Write an object as JSON text
+     *
+     * @throws ApiException if the object can not be written
+     */
+    static String write(ApiObject obj) throws ApiException {
+        Buffers buffers = borrow();
+
+        try {
+            return buffers.writer.writeSingle(obj);
+        } finally {
+            release(buffers);
+        }
+    }
+
+    /**
+     * Write an object as UTF-8 JSON
+     *
+     * @throws ApiException if the object can not be written
+     */
+    static byte[] writeBytes(ApiObject obj) throws ApiException {
+        Buffers buffers = borrow();
+
+        try {
+            return buffers.writer.writeSingle(obj).getBytes(StandardCharsets.UTF_8);
+        } finally {
+            release(buffers);
+        }
+    }
+
+    /**
+     * Parse JSON text
+     *
+     * @throws ApiException 410 if the text is not a valid object
+     */
+    static ApiObject read(CharSequence text) throws ApiException {
+        Buffers buffers = borrow();
+
+        try {
+            buffers.source.reset(text);
+
+            return buffers.parse();
+        } finally {
+            release(buffers);
+        }
+    }
+
+    /**
+     * Parse UTF-8 JSON
+     *
+     * @throws ApiException 410 if the bytes are not a valid object
+     */
+    static ApiObject read(byte[] bytes) throws ApiException {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Parse UTF-8 JSON, from the position to the limit of the buffer
+     *
+     * <p>
+     * The position of the buffer is not changed.</p>
+     *
+     * @throws ApiException 410 if the bytes are not a valid object
+     */
+    static ApiObject read(ByteBuffer bytes) throws ApiException {
+        Buffers buffers = borrow();
+
+        try {
+            int len = buffers.decode(bytes);
+
+            buffers.source.reset(buffers.chars, len);
+
+            return buffers.parse();
+        } finally {
+            release(buffers);
+        }
+    }
+
+    private static Buffers borrow() {
+        int start = (int) Thread.currentThread().threadId();
+
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Buffers buffers = pool.getAndSet((start + i) & (POOL_SIZE - 1), null);
+
+            if (buffers != null) {
+                return buffers;
+            }
+        }
+
+        return new Buffers();
+    }
+
+    private static void release(Buffers buffers) {
+        buffers.source.clear();
+
+        if (buffers.chars.length > MAX_RETAINED) {
+            return;
+        }
+
+        int start = (int) Thread.currentThread().threadId();
+
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (pool.compareAndSet((start + i) & (POOL_SIZE - 1), null, buffers)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * A parser, a writer and their buffer, used by one thread at a time
+     */
+    private static final class Buffers {
+
+        final JsonObjectParser parser = new JsonObjectParser(true);
+        final JsonObjectWriter writer = new JsonObjectWriter(true);
+        final CharSource source = new CharSource();
+        char[] chars = new char[1024];
+
+        ApiObject parse() throws ApiException {
+            try {
+                return parser.parseSingle(source);
+            } catch (ApiClassNotFoundException cnf) {
+                throw new ApiException(410, "Error Parsing ApiObject: " + cnf.getMessage());
+            }
+        }
+
+        /**
+         * UTF-8 decode bytes into chars, replacing malformed input with
+         * U+FFFD the same as new String(bytes, UTF_8)
+         *
+         * @return Number of chars written
+         */
+        int decode(ByteBuffer in) {
+            int pos = in.position();
+            int limit = in.limit();
+
+            if (chars.length < limit - pos) {
+                chars = new char[limit - pos];
+            }
+
+            char[] out = chars;
+            int len = 0;
+
+            while (pos < limit) {
+                int b = in.get(pos++);
+
+                if (b >= 0) {
+                    out[len++] = (char) b;
+
+                    continue;
+                }
+
+                b &= 0xFF;
+
+                int need;
+                int lower = 0x80;
+                int upper = 0xBF;
+
+                if (b >= 0xC2 && b <= 0xDF) {
+                    need = 1;
+                } else if (b >= 0xE0 && b <= 0xEF) {
+                    need = 2;
+                    lower = b == 0xE0 ? 0xA0 : 0x80;
+                } else if (b >= 0xF0 && b <= 0xF4) {
+                    need = 3;
+                    lower = b == 0xF0 ? 0x90 : 0x80;
+                    upper = b == 0xF4 ? 0x8F : 0xBF;
+                } else {
+                    out[len++] = '\uFFFD';
+
+                    continue;
+                }
+
+                int cp = b & (0x3F >> need);
+                int read = 0;
+
+                // The first continuation byte has a narrower range, to reject overlong forms
+                while (read < need && pos < limit) {
+                    int next = in.get(pos) & 0xFF;
+
+                    if (next < lower || next > upper) {
+                        break;
+                    }
+
+                    cp = (cp << 6) | (next & 0x3F);
+                    pos++;
+                    read++;
+                    lower = 0x80;
+                    upper = 0xBF;
+                }
+
+                // Surrogates, ED A0 to ED BF, are read whole and replaced once
+                if (read < need || (cp < 0x10000 && Character.isSurrogate((char) cp))) {
+                    out[len++] = '\uFFFD';
+                } else if (cp >= 0x10000) {
+                    out[len++] = Character.highSurrogate(cp);
+                    out[len++] = Character.lowSurrogate(cp);
+                } else {
+                    out[len++] = (char) cp;
+                }
+            }
+
+            return len;
+        }
+    }
+
+    /**
+     * A Reader that can be pointed at new text without allocating
+     */
+    private static final class CharSource extends Reader {
+
+        private CharSequence text;
+        private char[] array;
+        private int length;
+        private int pos;
+
+        void reset(CharSequence text) {
+            this.text = text;
+            this.array = null;
+            this.length = text.length();
+            this.pos = 0;
+        }
+
+        void reset(char[] array, int length) {
+            this.text = null;
+            this.array = array;
+            this.length = length;
+            this.pos = 0;
+        }
+
+        void clear() {
+            text = null;
+            array = null;
+            length = 0;
+            pos = 0;
+        }
+
+        @Override
+        public int read() {
+            if (pos >= length) {
+                return -1;
+            }
+
+            return array != null ? array[pos++] : text.charAt(pos++);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (pos >= length) {
+                return -1;
+            }
+
+            int count = Math.min(len, length - pos);
+
+            if (array != null) {
+                System.arraycopy(array, pos, cbuf, off, count);
+            } else if (text instanceof String str) {
+                str.getChars(pos, pos + count, cbuf, off);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    cbuf[off + i] = text.charAt(pos + i);
+                }
+            }
+
+            pos += count;
+
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
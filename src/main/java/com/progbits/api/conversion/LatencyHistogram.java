@@ -0,0 +1,99 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Power of two nanosecond buckets, updated without locking
+ */
+final class LatencyHistogram {
+
+    private static final int BUCKETS = 48;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+
+        counts[bucket].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Counts per bucket, with estimated percentiles
+     *
+     * <p>
+     * Each bucket reports its upper bound as le, in nanoseconds. Percentiles
+     * are the upper bound of the bucket they fall in.</p>
+     */
+    ApiObject snapshot() {
+        long[] lclCounts = new long[BUCKETS];
+        long count = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            lclCounts[i] = counts[i].sum();
+            count += lclCounts[i];
+        }
+
+        ApiObject respObj = new ApiObject();
+
+        respObj.setLong("count", count);
+        respObj.setLong("totalNanos", totalNanos.sum());
+        respObj.setLong("maxNanos", maxNanos.get());
+        respObj.setLong("p50Nanos", percentile(lclCounts, count, 0.50));
+        respObj.setLong("p90Nanos", percentile(lclCounts, count, 0.90));
+        respObj.setLong("p99Nanos", percentile(lclCounts, count, 0.99));
+
+        respObj.createList("buckets");
+
+        for (int i = 0; i < BUCKETS; i++) {
+            if (lclCounts[i] > 0) {
+                ApiObject bucket = new ApiObject();
+
+                bucket.setLong("le", upperBound(i));
+                bucket.setLong("count", lclCounts[i]);
+
+                respObj.getList("buckets").add(bucket);
+            }
+        }
+
+        return respObj;
+    }
+
+    private static long percentile(long[] lclCounts, long count, double pct) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(count * pct);
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += lclCounts[i];
+
+            if (seen >= target) {
+                return upperBound(i);
+            }
+        }
+
+        return upperBound(BUCKETS - 1);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,312 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An ApiObject holding JSON text that is only parsed when first read
+ *
+ * <p>
+ * Placed in the target field by string2Json when <code>lazy: true</code> is
+ * set. The first call to any ApiObject method parses the text. Invalid text
+ * is logged and read as an empty object, as string2Json without lazy sets
+ * null.</p>
+ *
+ * <p>
+ * json2String writes the original text back out while the object is
+ * unmodified. Any write, and any read returning an object, list or key set
+ * that could be changed, marks it modified.</p>
+ */
+public final class LazyJson extends ApiObject {
+
+    private static final Logger log = LoggerFactory.getLogger(LazyJson.class);
+
+    private final String text;
+
+    private volatile boolean parsed = false;
+    private volatile boolean modified = false;
+    private boolean parsing = false;
+
+    LazyJson(String text) {
+        this.text = text;
+    }
+
+    /**
+     * The original JSON text
+     *
+     * @return JSON text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Has the text been parsed
+     *
+     * @return true if parsed
+     */
+    public boolean isParsed() {
+        return parsed;
+    }
+
+    /**
+     * Has the object been, or could it have been, changed since parsing
+     *
+     * @return true if the text no longer matches the object
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    private void read() {
+        if (!parsed) {
+            synchronized (this) {
+                if (!parsed && !parsing) {
+                    parsing = true;
+
+                    try {
+                        super.putAll(JsonCodec.read(text));
+                    } catch (ApiException apx) {
+                        log.error("Error Parsing ApiObject", apx);
+                    } finally {
+                        parsing = false;
+                        parsed = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private void write() {
+        read();
+
+        if (!parsing) {
+            modified = true;
+        }
+    }
+
+    private <T> T container(T value) {
+        if (value != null) {
+            write();
+        }
+
+        return value;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        write();
+
+        return super.keySet();
+    }
+
+    @Override
+    public Object get(String key) {
+        read();
+
+        Object value = super.get(key);
+
+        return value instanceof ApiObject || value instanceof List ? container(value) : value;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        write();
+        super.put(key, value);
+    }
+
+    @Override
+    public Object remove(String key) {
+        write();
+
+        return super.remove(key);
+    }
+
+    @Override
+    public void putAll(ApiObject obj) {
+        write();
+        super.putAll(obj);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        read();
+
+        return super.containsKey(key);
+    }
+
+    @Override
+    public int getType(String key) {
+        read();
+
+        return super.getType(key);
+    }
+
+    @Override
+    public boolean isSet(String key) {
+        read();
+
+        return super.isSet(key);
+    }
+
+    @Override
+    public boolean isNull(String key) {
+        read();
+
+        return super.isNull(key);
+    }
+
+    @Override
+    public String getString(String key) {
+        read();
+
+        return super.getString(key);
+    }
+
+    @Override
+    public void setString(String key, String value) {
+        write();
+        super.setString(key, value);
+    }
+
+    @Override
+    public Integer getInteger(String key) {
+        read();
+
+        return super.getInteger(key);
+    }
+
+    @Override
+    public void setInteger(String key, Integer value) {
+        write();
+        super.setInteger(key, value);
+    }
+
+    @Override
+    public Long getLong(String key) {
+        read();
+
+        return super.getLong(key);
+    }
+
+    @Override
+    public void setLong(String key, Long value) {
+        write();
+        super.setLong(key, value);
+    }
+
+    @Override
+    public Double getDouble(String key) {
+        read();
+
+        return super.getDouble(key);
+    }
+
+    @Override
+    public void setDouble(String key, Double value) {
+        write();
+        super.setDouble(key, value);
+    }
+
+    @Override
+    public Boolean getBoolean(String key) {
+        read();
+
+        return super.getBoolean(key);
+    }
+
+    @Override
+    public void setBoolean(String key, Boolean value) {
+        write();
+        super.setBoolean(key, value);
+    }
+
+    @Override
+    public OffsetDateTime getDateTime(String key) {
+        read();
+
+        return super.getDateTime(key);
+    }
+
+    @Override
+    public void setDateTime(String key, OffsetDateTime value) {
+        write();
+        super.setDateTime(key, value);
+    }
+
+    @Override
+    public ApiObject getObject(String key) {
+        read();
+
+        return container(super.getObject(key));
+    }
+
+    @Override
+    public void setObject(String key, ApiObject value) {
+        write();
+        super.setObject(key, value);
+    }
+
+    @Override
+    public ApiObject createObject(String key) {
+        write();
+
+        return super.createObject(key);
+    }
+
+    @Override
+    public List<ApiObject> getList(String key) {
+        read();
+
+        return container(super.getList(key));
+    }
+
+    @Override
+    public void createList(String key) {
+        write();
+        super.createList(key);
+    }
+
+    @Override
+    public List<String> getStringArray(String key) {
+        read();
+
+        return container(super.getStringArray(key));
+    }
+
+    @Override
+    public void createStringArray(String key) {
+        write();
+        super.createStringArray(key);
+    }
+
+    @Override
+    public String toString() {
+        read();
+
+        return super.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        read();
+
+        if (obj instanceof LazyJson lazy) {
+            lazy.read();
+        }
+
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        read();
+
+        return super.hashCode();
+    }
+}
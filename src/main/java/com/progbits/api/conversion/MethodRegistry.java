@@ -0,0 +1,325 @@
+package com.progbits.api.conversion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the methods available to a Convert Object
+ *
+ * <p>
+ * Lookups read an immutable snapshot without locking. Changes build a new
+ * snapshot and publish it, so modules can register methods while other
+ * threads are converting.</p>
+ *
+ * <p>
+ * Compiled Plans hold a {@link Binding} per method, which is updated in place
+ * when the method is registered, replaced or removed.</p>
+ */
+public final class MethodRegistry {
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    private final Map<String, Binding> bindings = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Register a method, replacing any method with the same name
+     *
+     * @param name Name used in the method field of a Convert Object
+     * @param handler The method
+     */
+    public void register(String name, ApiMethodHandler handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler for <" + name + "> is NULL");
+        }
+
+        update(name, handler, null, null);
+    }
+
+    /**
+     * Register a method along with the method that reverses it
+     *
+     * <p>
+     * reverseConvertObject uses the pair to swap the methods.</p>
+     *
+     * @param name Name of the forward method
+     * @param handler The forward method
+     * @param reverseName Name of the reverse method
+     * @param reverseHandler The reverse method
+     */
+    public void registerPair(String name, ApiMethodHandler handler, String reverseName, ApiMethodHandler reverseHandler) {
+        if (handler == null || reverseHandler == null) {
+            throw new IllegalArgumentException("Handler for <" + name + "> or <" + reverseName + "> is NULL");
+        }
+
+        update(name, handler, reverseName, reverseHandler);
+    }
+
+    /**
+     * Remove a method and its reverse mapping, in both directions
+     *
+     * <p>
+     * The other method of a pair stays registered, without a reverse.</p>
+     *
+     * @param name Name of the method to remove
+     */
+    public void unregister(String name) {
+        update(name, null, null, null);
+    }
+
+    /**
+     * Cache the results of a registered method
+     *
+     * <p>
+     * Replaces the method with a {@link CachingMethodHandler}, keeping its
+     * reverse. Caching a method again replaces the cache.</p>
+     *
+     * @param name Name of the method
+     * @param maxSize Most results kept, rounded up to a multiple of 16
+     * @param ttl How long a result is kept, or null to keep it until evicted
+     *
+     * @return The cache, for statistics
+     */
+    public CachingMethodHandler cache(String name, int maxSize, Duration ttl) {
+        CachingMethodHandler caching;
+
+        synchronized (this) {
+            ApiMethodHandler handler = snapshot.methods.get(name);
+
+            if (handler == null) {
+                throw new IllegalArgumentException("Method <" + name + "> is not registered");
+            }
+
+            if (handler instanceof CachingMethodHandler current) {
+                handler = current.getDelegate();
+            }
+
+            caching = new CachingMethodHandler(handler, maxSize, ttl);
+
+            update(name, caching, null, null);
+        }
+
+        return caching;
+    }
+
+    /**
+     * Set the reverse of a method without registering a handler
+     *
+     * @param name Name of the method
+     * @param reverseName Name of the method that reverses it
+     */
+    public void setReverse(String name, String reverseName) {
+        ApiMethodHandler handler;
+
+        synchronized (this) {
+            Map<String, String> reverse = new HashMap<>(snapshot.reverse);
+
+            reverse.put(name, reverseName);
+
+            snapshot = new Snapshot(snapshot.methods, Map.copyOf(reverse));
+
+            handler = snapshot.methods.get(name);
+        }
+
+        for (Listener listener : listeners) {
+            listener.methodChanged(name, handler, handler);
+        }
+    }
+
+    /**
+     * Find a method
+     *
+     * @param name Name of the method
+     *
+     * @return The method, or null if it is not registered
+     */
+    public ApiMethodHandler get(String name) {
+        return snapshot.methods.get(name);
+    }
+
+    /**
+     * Find the reverse of a method
+     *
+     * @param name Name of the method
+     *
+     * @return Name of the reverse method, or null
+     */
+    public String getReverse(String name) {
+        return snapshot.reverse.get(name);
+    }
+
+    /**
+     * Immutable view of the currently registered methods
+     *
+     * @return Method name to handler
+     */
+    public Map<String, ApiMethodHandler> getMethods() {
+        return snapshot.methods;
+    }
+
+    /**
+     * Immutable view of the current reverse mappings
+     *
+     * @return Method name to reverse method name
+     */
+    public Map<String, String> getReverseMethods() {
+        return snapshot.reverse;
+    }
+
+    /**
+     * Binding for a method, which follows later changes to the registry
+     *
+     * @param name Name of the method
+     *
+     * @return The Binding, shared by everyone bound to the name
+     */
+    public Binding bind(String name) {
+        Binding binding = bindings.get(name);
+
+        if (binding == null) {
+            synchronized (this) {
+                binding = bindings.computeIfAbsent(name, k -> new Binding(k, snapshot.methods.get(k)));
+            }
+        }
+
+        return binding;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private void update(String name, ApiMethodHandler handler, String reverseName, ApiMethodHandler reverseHandler) {
+        ApiMethodHandler previous;
+        ApiMethodHandler previousReverse = null;
+        List<String> unpaired = new ArrayList<>();
+        Snapshot lclSnapshot;
+
+        synchronized (this) {
+            Map<String, ApiMethodHandler> methods = new HashMap<>(snapshot.methods);
+            Map<String, String> reverse = new HashMap<>(snapshot.reverse);
+
+            if (handler != null) {
+                previous = methods.put(name, handler);
+            } else {
+                previous = methods.remove(name);
+
+                String reverseOf = reverse.remove(name);
+
+                // The pair's other method no longer has a reverse either
+                if (reverseOf != null && name.equals(reverse.get(reverseOf))) {
+                    reverse.remove(reverseOf);
+                }
+            }
+
+            if (reverseName != null) {
+                previousReverse = methods.put(reverseName, reverseHandler);
+
+                // Methods either side was paired with before no longer reverse to it
+                unpair(reverse, name, reverseName, unpaired);
+                unpair(reverse, reverseName, name, unpaired);
+
+                reverse.put(name, reverseName);
+                reverse.put(reverseName, name);
+            }
+
+            lclSnapshot = new Snapshot(Map.copyOf(methods), Map.copyOf(reverse));
+            snapshot = lclSnapshot;
+
+            rebind(name, handler);
+
+            if (reverseName != null) {
+                rebind(reverseName, reverseHandler);
+            }
+        }
+
+        for (Listener listener : listeners) {
+            listener.methodChanged(name, previous, handler);
+
+            if (reverseName != null) {
+                listener.methodChanged(reverseName, previousReverse, reverseHandler);
+            }
+
+            for (String other : unpaired) {
+                ApiMethodHandler otherHandler = lclSnapshot.methods.get(other);
+
+                listener.methodChanged(other, otherHandler, otherHandler);
+            }
+        }
+    }
+
+    /*
+      Drop the reverse of the method name was paired with, unless it is the
+      new partner
+     */
+    private static void unpair(Map<String, String> reverse, String name, String partner, List<String> unpaired) {
+        String old = reverse.get(name);
+
+        if (old != null && !old.equals(partner) && name.equals(reverse.get(old))) {
+            reverse.remove(old);
+            unpaired.add(old);
+        }
+    }
+
+    private void rebind(String name, ApiMethodHandler handler) {
+        Binding binding = bindings.get(name);
+
+        if (binding != null) {
+            binding.handler = handler;
+        }
+    }
+
+    private record Snapshot(Map<String, ApiMethodHandler> methods, Map<String, String> reverse) {
+
+    }
+
+    /**
+     * A method name bound to its current handler
+     */
+    public static final class Binding {
+
+        private final String name;
+        private volatile ApiMethodHandler handler;
+
+        private Binding(String name, ApiMethodHandler handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The current handler
+         *
+         * @return The handler, or null if the method is not registered
+         */
+        public ApiMethodHandler getHandler() {
+            return handler;
+        }
+    }
+
+    /**
+     * Notified after a method is registered, replaced or removed, or its
+     * reverse is changed
+     */
+    public interface Listener {
+
+        /**
+         * @param name Name of the method
+         * @param previous Handler before the change, or null
+         * @param current Handler after the change, or null if removed
+         */
+        void methodChanged(String name, ApiMethodHandler previous, ApiMethodHandler current);
+    }
+}
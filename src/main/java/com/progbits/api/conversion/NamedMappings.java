@@ -0,0 +1,136 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import com.progbits.api.model.ApiObjectUtils;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable set of the CONVERT_* mappings loaded from ConfigProvider
+ *
+ * <p>
+ * Each mapping keeps a copy of its Convert Object, with the forward and
+ * reversed Plans compiled up front. A reload builds a new NamedMappings,
+ * reusing the Plans of mappings whose content did not change, and the
+ * converter swaps it in with a single write.</p>
+ */
+final class NamedMappings {
+
+    static final String MAPPING_PREFIX = "CONVERT_";
+
+    static final NamedMappings EMPTY = new NamedMappings(Map.of());
+
+    private final Map<String, Mapping> mappings;
+
+    private NamedMappings(Map<String, Mapping> mappings) {
+        this.mappings = mappings;
+    }
+
+    Mapping get(String name) {
+        return mappings.get(name);
+    }
+
+    Set<String> names() {
+        return mappings.keySet();
+    }
+
+    /**
+     * Build the mappings found in a config
+     *
+     * @param config Config from ConfigProvider, may be null
+     * @param previous Mappings to reuse when unchanged
+     * @param context Context for new Plans
+     * @param reverser Reverses a Convert Object
+     *
+     * @return The new mappings
+     */
+    static NamedMappings build(ApiObject config, NamedMappings previous, PlanContext context, Function<ApiObject, ApiObject> reverser) {
+        if (config == null) {
+            return EMPTY;
+        }
+
+        Map<String, Mapping> lclMappings = new HashMap<>();
+
+        for (String key : config.keySet()) {
+            if (!key.startsWith(MAPPING_PREFIX) || config.getType(key) != ApiObject.TYPE_OBJECT) {
+                continue;
+            }
+
+            ApiObject source = config.getObject(key);
+            Mapping current = previous.get(key);
+
+            if (current != null && PlanKey.lookup(source).equals(PlanKey.lookup(current.convertObj))) {
+                lclMappings.put(key, current);
+            } else {
+                lclMappings.put(key, Mapping.compile(key, ApiObjectUtils.cloneApiObject(source, null), context, reverser));
+            }
+        }
+
+        return new NamedMappings(Map.copyOf(lclMappings));
+    }
+
+    /**
+     * Recompile the reversed Plans of the mappings that use a method
+     *
+     * <p>
+     * Forward Plans follow the registry on their own, only the reverse of a
+     * method is fixed when a Convert Object is reversed.</p>
+     *
+     * @param method Name of the method whose reverse may have changed
+     * @param context Context for new Plans
+     * @param reverser Reverses a Convert Object
+     *
+     * @return The new mappings, or this if no mapping uses the method
+     */
+    NamedMappings methodChanged(String method, PlanContext context, Function<ApiObject, ApiObject> reverser) {
+        Map<String, Mapping> lclMappings = null;
+
+        for (Mapping mapping : mappings.values()) {
+            if (mapping.uses(method)) {
+                if (lclMappings == null) {
+                    lclMappings = new HashMap<>(mappings);
+                }
+
+                lclMappings.put(mapping.name, mapping.reversed(context, reverser));
+            }
+        }
+
+        return lclMappings != null ? new NamedMappings(Map.copyOf(lclMappings)) : this;
+    }
+
+    record Mapping(String name, ApiObject convertObj, ConversionPlan forward, ConversionPlan reverse) {
+
+        static Mapping compile(String name, ApiObject convertObj, PlanContext context, Function<ApiObject, ApiObject> reverser) {
+            ConversionPlan forward = new ConversionPlan(convertObj, context);
+
+            forward.setName(name);
+
+            return new Mapping(name, convertObj, forward, reverse(name, convertObj, context, reverser));
+        }
+
+        Mapping reversed(PlanContext context, Function<ApiObject, ApiObject> reverser) {
+            return new Mapping(name, convertObj, forward, reverse(name, convertObj, context, reverser));
+        }
+
+        boolean uses(String method) {
+            for (String field : convertObj.keySet()) {
+                if (convertObj.getType(field) == ApiObject.TYPE_OBJECT
+                        && method.equals(convertObj.getObject(field).getString(ApiObjectConverter.FIELD_METHOD))) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private static ConversionPlan reverse(String name, ApiObject convertObj, PlanContext context, Function<ApiObject, ApiObject> reverser) {
+            ConversionPlan reverse = new ConversionPlan(reverser.apply(convertObj), context);
+
+            reverse.setName(name + ".reverse");
+
+            return reverse;
+        }
+    }
+}
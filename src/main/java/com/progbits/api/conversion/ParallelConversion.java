@@ -0,0 +1,122 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Converts a root list in chunks on an Executor, keeping the original order
+ */
+final class ParallelConversion {
+
+    private ParallelConversion() {
+    }
+
+    /**
+     * Convert every entry, returning the results in the order of entries
+     *
+     * <p>
+     * The first failure, an ApiException or any RuntimeException, cancels
+     * chunks that have not started, and running chunks stop at their next
+     * record. The ApiException with the lowest index seen is reported ahead
+     * of a RuntimeException.</p>
+     *
+     * @param entries The root list to convert
+     * @param converter Conversion for a single record
+     * @param executor Where chunks are run
+     * @param chunkSize Number of records per task
+     *
+     * @return The converted records
+     *
+     * @throws ApiException ApiConversionException with the failed record index
+     */
+    static List<ApiObject> convert(List<ApiObject> entries, RecordConverter converter, Executor executor, int chunkSize) throws ApiException {
+        final int size = entries.size();
+        final ApiObject[] results = new ApiObject[size];
+        final AtomicReference<ApiConversionException> failure = new AtomicReference<>();
+        final AtomicReference<RuntimeException> unexpected = new AtomicReference<>();
+
+        int chunkCount = (size + chunkSize - 1) / chunkSize;
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkCount];
+
+        for (int c = 0; c < chunkCount; c++) {
+            if (failure.get() != null || unexpected.get() != null) {
+                break;
+            }
+
+            final int start = c * chunkSize;
+            final int end = Math.min(size, start + chunkSize);
+
+            futures[c] = CompletableFuture.runAsync(() -> {
+                for (int i = start; i < end; i++) {
+                    if (failure.get() != null || unexpected.get() != null) {
+                        return;
+                    }
+
+                    try {
+                        results[i] = converter.convert(entries.get(i));
+                    } catch (ApiException apx) {
+                        ApiConversionException cvx = new ApiConversionException(i, apx);
+
+                        failure.accumulateAndGet(cvx, (cur, nxt) -> cur == null || nxt.getRecordIndex() < cur.getRecordIndex() ? nxt : cur);
+                        cancel(futures);
+
+                        return;
+                    } catch (RuntimeException rex) {
+                        unexpected.compareAndSet(null, rex);
+                        cancel(futures);
+
+                        return;
+                    }
+                }
+            }, executor);
+        }
+
+        RuntimeException lclUnexpected = null;
+
+        for (CompletableFuture<?> future : futures) {
+            if (future == null) {
+                // Never submitted after a failure
+                continue;
+            }
+
+            try {
+                future.join();
+            } catch (CancellationException cex) {
+                // Chunk was never started
+            } catch (CompletionException cex) {
+                if (lclUnexpected == null) {
+                    lclUnexpected = cex.getCause() instanceof RuntimeException rex ? rex : cex;
+                }
+            }
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        if (unexpected.get() != null) {
+            throw unexpected.get();
+        }
+
+        if (lclUnexpected != null) {
+            throw lclUnexpected;
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private static void cancel(CompletableFuture<?>[] futures) {
+        for (CompletableFuture<?> future : futures) {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converter state shared by every Plan it compiles
+ */
+final class PlanContext {
+
+    final MethodRegistry registry;
+    final Instrumentation instrumentation;
+
+    /*
+      Most records passed to a BatchApiMethodHandler in one call
+     */
+    volatile int maxBatchSize = 500;
+
+    /*
+      Plan names, kept apart from the Plans so a name survives the Plan being
+      dropped from the cache. Keyed on the content of the Convert Object, the
+      same as the Plan cache.
+     */
+    private final Map<PlanKey, String> names = new ConcurrentHashMap<>();
+
+    PlanContext(MethodRegistry registry, Instrumentation instrumentation) {
+        this.registry = registry;
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Name given to a Plan for a Convert Object
+     *
+     * @return The name, or null if not named
+     */
+    String name(ApiObject convertObj) {
+        return names.isEmpty() ? null : names.get(PlanKey.lookup(convertObj));
+    }
+
+    void setName(ApiObject convertObj, String name) {
+        PlanKey key = PlanKey.lookup(convertObj);
+
+        if (name != null) {
+            names.put(key.copy(), name);
+        } else {
+            names.remove(key);
+        }
+    }
+}
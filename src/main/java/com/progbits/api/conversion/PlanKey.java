@@ -0,0 +1,115 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import com.progbits.api.model.ApiObjectUtils;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache key for a Convert Object, equal to any Convert Object with the same
+ * fields, values and field order
+ *
+ * <p>
+ * A Convert Object rebuilt for every call finds the Plan of an equal one,
+ * and a Convert Object changed after use no longer matches its old Plan. A
+ * stored key holds its own copy, never the caller's object.</p>
+ */
+final class PlanKey {
+
+    private final ApiObject convertObj;
+    private final int hash;
+
+    private PlanKey(ApiObject convertObj, int hash) {
+        this.convertObj = convertObj;
+        this.hash = hash;
+    }
+
+    /**
+     * Key for a lookup, which must not be stored
+     */
+    static PlanKey lookup(ApiObject convertObj) {
+        return new PlanKey(convertObj, hash(convertObj));
+    }
+
+    /**
+     * This key with its own copy of the Convert Object, to be stored
+     */
+    PlanKey copy() {
+        return new PlanKey(ApiObjectUtils.cloneApiObject(convertObj, null), hash);
+    }
+
+    ApiObject convertObj() {
+        return convertObj;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PlanKey other && other.hash == hash && sameValue(convertObj, other.convertObj);
+    }
+
+    private static int hash(Object value) {
+        if (value instanceof ApiObject obj) {
+            int h = 1;
+
+            for (String key : obj.keySet()) {
+                h = 31 * h + (key.hashCode() ^ hash(obj.get(key)));
+            }
+
+            return h;
+        } else if (value instanceof List<?> list) {
+            int h = 2;
+
+            for (Object entry : list) {
+                h = 31 * h + hash(entry);
+            }
+
+            return h;
+        }
+
+        return Objects.hashCode(value);
+    }
+
+    private static boolean sameValue(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+
+        if (a instanceof ApiObject objA && b instanceof ApiObject objB) {
+            if (objA.keySet().size() != objB.keySet().size()) {
+                return false;
+            }
+
+            Iterator<String> keysB = objB.keySet().iterator();
+
+            for (String key : objA.keySet()) {
+                if (!key.equals(keysB.next()) || objA.getType(key) != objB.getType(key) || !sameValue(objA.get(key), objB.get(key))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (a instanceof List<?> listA && b instanceof List<?> listB) {
+            if (listA.size() != listB.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < listA.size(); i++) {
+                if (!sameValue(listA.get(i), listB.get(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return Objects.equals(a, b);
+    }
+}
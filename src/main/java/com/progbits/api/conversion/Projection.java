@@ -0,0 +1,137 @@
+package com.progbits.api.conversion;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A sparse fieldset, the fields a caller wants back from a conversion
+ *
+ * <p>
+ * Fields are named on the target side, as they appear in the converted
+ * object, or on the source side, as they appear in the subject, and are
+ * mapped through the Convert Object to their targets the same way orderBy
+ * entries are. Naming a parent, ie: <code>address</code>, includes every
+ * field under it. Use with {@link ConversionPlan#project(Projection)}.</p>
+ */
+public final class Projection {
+
+    private final boolean target;
+    private final Set<String> fields;
+
+    private Projection(boolean target, Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("Projection Requires At Least One Field");
+        }
+
+        this.target = target;
+        this.fields = Set.copyOf(fields);
+    }
+
+    /**
+     * Fields named as they appear in the converted object
+     *
+     * @param fields Target field names, ie: firstName, address.city
+     *
+     * @return The projection
+     */
+    public static Projection ofTarget(String... fields) {
+        return new Projection(true, Arrays.asList(fields));
+    }
+
+    /**
+     * Fields named as they appear in the converted object
+     *
+     * @param fields Target field names, ie: the fields= query parameter
+     *
+     * @return The projection
+     */
+    public static Projection ofTarget(Collection<String> fields) {
+        return new Projection(true, fields);
+    }
+
+    /**
+     * Fields named as they appear in the subject
+     *
+     * @param fields Subject field names
+     *
+     * @return The projection
+     */
+    public static Projection ofSource(String... fields) {
+        return new Projection(false, Arrays.asList(fields));
+    }
+
+    /**
+     * Fields named as they appear in the subject
+     *
+     * @param fields Subject field names
+     *
+     * @return The projection
+     */
+    public static Projection ofSource(Collection<String> fields) {
+        return new Projection(false, fields);
+    }
+
+    public boolean isTarget() {
+        return target;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Is a field, or one of its parents, in this projection
+     *
+     * @param field Field name, in dot notation
+     *
+     * @return true if the field is included
+     */
+    boolean includes(String field) {
+        if (fields.contains(field)) {
+            return true;
+        }
+
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+
+            if ((c == '.' || c == '[') && fields.contains(field.substring(0, i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Should a rule run under this projection
+     *
+     * <p>
+     * Methods without a target field may write anything, so they always
+     * run.</p>
+     */
+    boolean includes(FieldRule rule) {
+        if (rule.kind == FieldRule.KIND_PASSTHROUGH) {
+            return ConversionPlan.FIELD_ORDER_BY.equals(rule.configField) || includes(rule.configField);
+        } else if (target) {
+            return rule.target == null || includes(rule.target);
+        } else {
+            return includes(rule.subjectField);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Projection other && target == other.target && fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode() * 31 + (target ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return (target ? "target" : "source") + fields;
+    }
+}
@@ -0,0 +1,13 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+
+/**
+ * Converts a single record, used by the root list processors
+ */
+@FunctionalInterface
+interface RecordConverter {
+
+    ApiObject convert(ApiObject subject) throws ApiException;
+}
@@ -0,0 +1,119 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lazy, one record at a time wrappers around a RecordConverter
+ */
+final class StreamingConversion {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingConversion.class);
+
+    private StreamingConversion() {
+    }
+
+    static Iterator<ApiObject> iterator(Iterator<ApiObject> source, RecordConverter converter) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public ApiObject next() {
+                return convert(converter, source.next());
+            }
+        };
+    }
+
+    static ApiObject convert(RecordConverter converter, ApiObject entry) {
+        try {
+            return converter.convert(entry);
+        } catch (ApiException apx) {
+            throw new UncheckedApiException(apx);
+        }
+    }
+
+    static Flow.Publisher<ApiObject> publisher(Flow.Publisher<ApiObject> source, RecordConverter converter) {
+        return subscriber -> source.subscribe(new ConvertingSubscriber(subscriber, converter));
+    }
+
+    /**
+     * Converts each item before passing it on. Demand is passed straight
+     * through, since every item in produces one item out.
+     *
+     * <p>
+     * A failed conversion cancels the source and is passed on with onError.
+     * If the subscriber itself throws from onNext, the source is cancelled
+     * and nothing more is sent to it, not even onError.</p>
+     */
+    private static final class ConvertingSubscriber implements Flow.Subscriber<ApiObject> {
+
+        private final Flow.Subscriber<? super ApiObject> downstream;
+        private final RecordConverter converter;
+
+        private Flow.Subscription subscription;
+        private boolean done = false;
+
+        ConvertingSubscriber(Flow.Subscriber<? super ApiObject> downstream, RecordConverter converter) {
+            this.downstream = downstream;
+            this.converter = converter;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(ApiObject item) {
+            if (done) {
+                return;
+            }
+
+            ApiObject converted;
+
+            try {
+                converted = converter.convert(item);
+            } catch (ApiException | RuntimeException ex) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(ex);
+
+                return;
+            }
+
+            try {
+                downstream.onNext(converted);
+            } catch (RuntimeException rex) {
+                done = true;
+                subscription.cancel();
+
+                log.error("Subscriber Failed in onNext, Subscription Cancelled", rex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+
+/**
+ * Carries an ApiException out of an Iterator or Stream, which cannot throw
+ * checked exceptions
+ */
+public class UncheckedApiException extends RuntimeException {
+
+    public UncheckedApiException(ApiException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized ApiException getCause() {
+        return (ApiException) super.getCause();
+    }
+}
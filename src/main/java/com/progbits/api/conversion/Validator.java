@@ -0,0 +1,114 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The checks of a Plan, run without building any output
+ *
+ * <p>
+ * Holds the $required fields, checked by convertObject, and the rules with
+ * required or type, checked by convertObjectV2, with type names already
+ * resolved to ApiObject TYPE_ codes. Defaults count as the value of a null
+ * field, but are never written to the subject.</p>
+ */
+final class Validator {
+
+    private final String[] requiredFields;
+    private final FieldRule[] checks;
+
+    Validator(String[] requiredFields, FieldRule[] rules) {
+        this.requiredFields = requiredFields != null ? requiredFields : new String[0];
+
+        List<FieldRule> lstChecks = new ArrayList<>();
+
+        for (FieldRule rule : rules) {
+            if (rule.kind == FieldRule.KIND_OBJECT && rule.validates()) {
+                lstChecks.add(rule);
+            }
+        }
+
+        this.checks = lstChecks.toArray(FieldRule[]::new);
+    }
+
+    /**
+     * Check the $required fields, the same as convertObject
+     *
+     * @throws ApiException 400 listing every missing field
+     */
+    void checkRequired(ApiObject subject) throws ApiException {
+        StringBuilder sbErr = null;
+
+        for (String entry : requiredFields) {
+            if (!subject.isSet(entry)) {
+                if (sbErr == null) {
+                    sbErr = new StringBuilder();
+                } else {
+                    sbErr.append("\n");
+                }
+
+                sbErr.append(entry).append(" IS REQUIRED");
+            }
+        }
+
+        if (sbErr != null) {
+            throw new ApiException(400, sbErr.toString());
+        }
+    }
+
+    /**
+     * Validate a single record or every entry of a root list with
+     * convertObjectV2 semantics, which ignore $required
+     *
+     * @param subject The subject to validate
+     * @param collectAll true to report every violation, false to stop at the
+     * first
+     *
+     * @throws ApiException The first violation, wrapped in an
+     * ApiConversionException for a root list, or an ApiValidationException
+     * with every violation when collectAll is true
+     */
+    void validate(ApiObject subject, boolean collectAll) throws ApiException {
+        List<ApiValidationException.Violation> violations = new ArrayList<>();
+        int limit = collectAll ? Integer.MAX_VALUE : 1;
+
+        if (subject.containsKey(ApiObjectConverter.FIELD_ROOT)) {
+            List<ApiObject> entries = subject.getList(ApiObjectConverter.FIELD_ROOT);
+
+            for (int r = 0; r < entries.size() && violations.size() < limit; r++) {
+                check(entries.get(r), r, violations, limit);
+            }
+        } else {
+            check(subject, -1, violations, limit);
+        }
+
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        if (collectAll) {
+            throw new ApiValidationException(violations);
+        }
+
+        ApiValidationException.Violation first = violations.get(0);
+        ApiException apx = new ApiException(first.code(), first.message());
+
+        throw first.recordIndex() < 0 ? apx : new ApiConversionException(first.recordIndex(), apx);
+    }
+
+    private void check(ApiObject record, int recordIndex, List<ApiValidationException.Violation> violations, int limit) {
+        for (FieldRule rule : checks) {
+            if (violations.size() >= limit) {
+                return;
+            }
+
+            String violation = rule.violation(rule.sourceType(rule.from(record)));
+
+            if (violation != null) {
+                violations.add(new ApiValidationException.Violation(recordIndex, rule.subjectField, 415, violation));
+            }
+        }
+    }
+}
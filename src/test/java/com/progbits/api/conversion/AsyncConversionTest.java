@@ -0,0 +1,198 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * convertObjectV2Async with AsyncApiMethodHandler fields
+ */
+public class AsyncConversionTest {
+
+    private static final int RECORDS = 4;
+
+    // A thread per call, so blocked calls never starve each other
+    private static final Executor THREADS = command -> Thread.ofVirtual().start(command);
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private volatile CountDownLatch started;
+
+    private ApiObjectConverter converter;
+
+    @BeforeMethod
+    public void setup() {
+        running.set(0);
+        maxRunning.set(0);
+        started = new CountDownLatch(RECORDS);
+
+        converter = new ApiObjectConverter();
+        converter.configure();
+
+        // Completes once every record has started, so it only finishes if the calls overlap
+        converter.register("together", (AsyncApiMethodHandler) (from, to, fieldFrom, processObj) -> CompletableFuture.runAsync(() -> {
+            started.countDown();
+
+            try {
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Not Concurrent");
+                }
+            } catch (InterruptedException iex) {
+                Thread.currentThread().interrupt();
+            }
+
+            to.setString(processObj.getString("field"), from.getString(fieldFrom).toUpperCase());
+        }, THREADS));
+
+        // Fails with an ApiException for "bad", never completes for "hang"
+        converter.register("check", (AsyncApiMethodHandler) (from, to, fieldFrom, processObj) -> {
+            String value = from.getString(fieldFrom);
+
+            if ("bad".equals(value)) {
+                return CompletableFuture.failedFuture(new ApiException(415, "Bad Value " + from.getInteger("id")));
+            } else if ("hang".equals(value)) {
+                return new CompletableFuture<>();
+            } else if ("boom".equals(value)) {
+                throw new IllegalStateException("Boom");
+            }
+
+            to.setString(processObj.getString("field"), value);
+
+            return CompletableFuture.completedFuture(null);
+        });
+
+        converter.register("counted", (AsyncApiMethodHandler) (from, to, fieldFrom, processObj) -> CompletableFuture.runAsync(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException iex) {
+                Thread.currentThread().interrupt();
+            }
+
+            running.decrementAndGet();
+            to.setString(processObj.getString("field"), from.getString(fieldFrom));
+        }, THREADS));
+    }
+
+    private static ApiObject convertObj(String method) {
+        ApiObject convertObj = new ApiObject();
+
+        ApiObject name = convertObj.createObject("name");
+        name.setString("field", "label");
+        name.setString("method", method);
+
+        convertObj.setString("id", "key");
+
+        return convertObj;
+    }
+
+    private static ApiObject root(String... names) {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+
+        for (int i = 0; i < names.length; i++) {
+            ApiObject record = new ApiObject();
+
+            record.setInteger("id", i);
+            record.setString("name", names[i]);
+            root.getList("root").add(record);
+        }
+
+        return root;
+    }
+
+    private static ApiException failure(CompletableFuture<ApiObject> future) {
+        CompletionException cex = expectThrows(CompletionException.class, future::join);
+
+        assertTrue(cex.getCause() instanceof ApiException, String.valueOf(cex.getCause()));
+
+        return (ApiException) cex.getCause();
+    }
+
+    @Test
+    public void recordsRunConcurrently() {
+        List<ApiObject> converted = converter.convertObjectV2Async(root("a", "b", "c", "d"), convertObj("together"), false).join().getList("root");
+
+        assertEquals(converted.size(), RECORDS);
+        assertEquals(converted.get(2).getString("label"), "C");
+        assertEquals(converted.get(2).getInteger("key"), Integer.valueOf(2));
+    }
+
+    @Test
+    public void asyncFieldsFollowOtherFields() {
+        ApiObject converted = converter.convertObjectV2Async(root("a").getList("root").get(0), convertObj("check"), false).join();
+
+        assertEquals(new ArrayList<>(converted.keySet()), List.of("key", "label"));
+    }
+
+    @Test
+    public void reportsLowestFailedRecord() {
+        ApiException apx = failure(converter.convertObjectV2Async(root("ok", "bad", "ok", "bad"), convertObj("check"), false));
+
+        assertTrue(apx instanceof ApiConversionException);
+        assertEquals(((ApiConversionException) apx).getRecordIndex(), 1);
+        assertEquals(((ApiConversionException) apx).getRecordException().getMessage(), "Bad Value 1");
+    }
+
+    @Test
+    public void singleObjectFailsWithoutIndex() {
+        ApiException apx = failure(converter.convertObjectV2Async(root("bad").getList("root").get(0), convertObj("check"), false));
+
+        assertEquals(apx.getMessage(), "Bad Value 0");
+    }
+
+    @Test
+    public void thrownExceptionFailsWith500() {
+        ApiException apx = failure(converter.convertObjectV2Async(root("boom").getList("root").get(0), convertObj("check"), false));
+
+        assertEquals(apx.getCode(), 500);
+    }
+
+    @Test
+    public void slowCallTimesOut() {
+        converter.setAsyncTimeout(Duration.ofMillis(50));
+
+        ApiException apx = failure(converter.convertObjectV2Async(root("hang").getList("root").get(0), convertObj("check"), false));
+
+        assertEquals(apx.getCode(), 504);
+    }
+
+    @Test
+    public void concurrencyIsLimited() {
+        converter.setAsyncConcurrency(2);
+
+        converter.convertObjectV2Async(root("a", "b", "c", "d", "e", "f"), convertObj("counted"), false).join();
+
+        assertTrue(maxRunning.get() <= 2, "Running " + maxRunning.get());
+
+        expectThrows(IllegalArgumentException.class, () -> converter.setAsyncConcurrency(0));
+    }
+
+    @Test
+    public void withoutAsyncMethodsCompletesAtOnce() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("name", "label");
+
+        CompletableFuture<ApiObject> future = converter.convertObjectV2Async(root("a").getList("root").get(0), convertObj, false);
+
+        assertTrue(future.isDone());
+        assertEquals(future.join().getString("label"), "a");
+    }
+}
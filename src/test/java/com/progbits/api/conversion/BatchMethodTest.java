@@ -0,0 +1,143 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * BatchApiMethodHandler with convertObjectV2
+ */
+public class BatchMethodTest {
+
+    private final List<Integer> batches = new ArrayList<>();
+
+    private ApiObjectConverter converter;
+
+    @BeforeMethod
+    public void setup() {
+        batches.clear();
+
+        converter = new ApiObjectConverter();
+        converter.configure();
+
+        // Writes the value with the key already converted for the same record
+        converter.register("lookup", (BatchApiMethodHandler) (from, to, fieldFrom, processObj) -> {
+            batches.add(from.size());
+
+            for (int i = 0; i < from.size(); i++) {
+                to.get(i).setString(processObj.getString("field"), from.get(i).getString(fieldFrom) + "/" + to.get(i).getInteger("key"));
+            }
+        });
+    }
+
+    private static ApiObject convertObj(Integer batchSize) {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "key");
+
+        ApiObject city = convertObj.createObject("city");
+        city.setString("field", "location");
+        city.setString("method", "lookup");
+        city.setString("default", "none");
+
+        if (batchSize != null) {
+            city.setInteger("batchSize", batchSize);
+        }
+
+        ApiObject zip = convertObj.createObject("zip");
+        zip.setString("field", "zip");
+        zip.setBoolean("required", true);
+
+        return convertObj;
+    }
+
+    private static ApiObject record(int id, String city) {
+        ApiObject record = new ApiObject();
+
+        record.setInteger("id", id);
+        record.setString("city", city);
+        record.setString("zip", "7000" + id);
+
+        return record;
+    }
+
+    private static ApiObject root(int count) {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+
+        for (int i = 0; i < count; i++) {
+            root.getList("root").add(record(i, "city" + i));
+        }
+
+        return root;
+    }
+
+    @Test
+    public void callsOncePerBatchInOrder() throws ApiException {
+        converter.setMaxBatchSize(3);
+
+        List<ApiObject> converted = converter.convertObjectV2(root(7), convertObj(null), false).getList("root");
+
+        assertEquals(batches, List.of(3, 3, 1));
+        assertEquals(converted.size(), 7);
+
+        for (int i = 0; i < 7; i++) {
+            assertEquals(converted.get(i).getString("location"), "city" + i + "/" + i);
+            assertEquals(converted.get(i).getString("zip"), "7000" + i);
+        }
+    }
+
+    @Test
+    public void fieldBatchSizeWins() throws ApiException {
+        converter.setMaxBatchSize(3);
+
+        converter.convertObjectV2(root(7), convertObj(5), false);
+
+        assertEquals(batches, List.of(5, 2));
+    }
+
+    @Test
+    public void defaultAppliedPerRecord() throws ApiException {
+        ApiObject root = root(3);
+
+        root.getList("root").get(1).remove("city");
+
+        List<ApiObject> converted = converter.convertObjectV2(root, convertObj(null), false).getList("root");
+
+        assertEquals(converted.get(1).getString("location"), "none/1");
+        assertNull(root.getList("root").get(1).get("city"));
+    }
+
+    @Test
+    public void requiredCheckedBeforeBatch() {
+        ApiObject root = root(3);
+
+        root.getList("root").get(2).remove("zip");
+
+        ApiException apx = expectThrows(ApiException.class, () -> converter.convertObjectV2(root, convertObj(null), false));
+
+        assertEquals(apx.getMessage(), "zip IS Required");
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void singleObjectIsBatchOfOne() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(record(4, "Austin"), convertObj(null), false);
+
+        assertEquals(converted.getString("location"), "Austin/4");
+        assertEquals(batches, List.of(1));
+    }
+
+    @Test
+    public void rejectsMaxBatchSizeBelowOne() {
+        expectThrows(IllegalArgumentException.class, () -> converter.setMaxBatchSize(0));
+    }
+}
@@ -0,0 +1,201 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Round trips through the binary encoding
+ */
+public class BinaryCodecTest {
+
+    private static final String[] STRINGS = {"", "Ann", "\"quoted\"\n", "über", "日本", "\uD83D\uDE00"};
+
+    @Test
+    public void roundTripRandomObjects() {
+        Random random = new Random(19);
+
+        for (int i = 0; i < 20_000; i++) {
+            ApiObject obj = randomObject(random, 3);
+
+            assertSameObject(BinaryCodec.decode(BinaryCodec.encode(obj)), obj);
+        }
+    }
+
+    @Test
+    public void roundTripEdgeValues() {
+        ApiObject obj = new ApiObject();
+
+        obj.setInteger("minInt", Integer.MIN_VALUE);
+        obj.setInteger("maxInt", Integer.MAX_VALUE);
+        obj.setLong("minLong", Long.MIN_VALUE);
+        obj.setLong("maxLong", Long.MAX_VALUE);
+        obj.setDouble("nan", Double.NaN);
+        obj.setDouble("negativeZero", -0.0);
+        obj.setDouble("infinity", Double.NEGATIVE_INFINITY);
+        obj.put("float", 1.5f);
+        obj.put("decimal", new BigDecimal("-12345678901234567890.000001"));
+        obj.put("bigScale", new BigDecimal("1E+20"));
+        obj.setDateTime("max", OffsetDateTime.MAX);
+        obj.setDateTime("min", OffsetDateTime.MIN);
+        obj.setDateTime("offset", OffsetDateTime.of(2024, 2, 29, 23, 59, 59, 999_999_999, ZoneOffset.ofHoursMinutesSeconds(-5, -30, -15)));
+        obj.setString("empty", "");
+        obj.put("null", null);
+        obj.createObject("emptyObject");
+        obj.createList("emptyList");
+
+        assertSameObject(BinaryCodec.decode(BinaryCodec.encode(obj)), obj);
+    }
+
+    @Test
+    public void repeatedKeysAreWrittenOnce() {
+        ApiObject obj = new ApiObject();
+
+        obj.createList("records");
+
+        for (int i = 0; i < 100; i++) {
+            ApiObject record = new ApiObject();
+
+            record.setString("someLongFieldName", "v");
+            obj.getList("records").add(record);
+        }
+
+        byte[] bytes = BinaryCodec.encode(obj);
+        byte[] name = "someLongFieldName".getBytes();
+        int found = 0;
+
+        for (int i = 0; i + name.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + name.length, name, 0, name.length)) {
+                found++;
+            }
+        }
+
+        assertEquals(found, 1);
+        assertSameObject(BinaryCodec.decode(bytes), obj);
+    }
+
+    @Test
+    public void invalidBytesThrowIllegalArgument() {
+        expectThrows(IllegalArgumentException.class, () -> BinaryCodec.decode(new byte[0]));
+        expectThrows(IllegalArgumentException.class, () -> BinaryCodec.decode(new byte[]{1, 10, 0}));
+
+        Random random = new Random(19);
+
+        for (int i = 0; i < 20_000; i++) {
+            byte[] bytes = BinaryCodec.encode(randomObject(random, 2));
+
+            switch (random.nextInt(3)) {
+                case 0 ->
+                    bytes = Arrays.copyOf(bytes, random.nextInt(bytes.length));
+                case 1 ->
+                    bytes[random.nextInt(1, bytes.length)] = (byte) random.nextInt(256);
+                default ->
+                    bytes = Arrays.copyOf(bytes, bytes.length + 1);
+            }
+
+            try {
+                BinaryCodec.decode(bytes);
+            } catch (IllegalArgumentException iae) {
+                // Expected for most, a changed byte can still be a valid encoding
+            } catch (RuntimeException rex) {
+                fail("Unexpected " + rex + " for sample " + i, rex);
+            }
+        }
+    }
+
+    @Test
+    public void noBinaryForm() {
+        ApiObject obj = new ApiObject();
+
+        obj.put("thread", Thread.currentThread());
+
+        expectThrows(IllegalArgumentException.class, () -> BinaryCodec.encode(obj));
+    }
+
+    /*
+      Every value type the codec writes, nested to depth
+     */
+    private static ApiObject randomObject(Random random, int depth) {
+        ApiObject obj = new ApiObject();
+        int count = random.nextInt(8);
+
+        for (int i = 0; i < count; i++) {
+            String key = "field" + random.nextInt(10);
+
+            switch (random.nextInt(depth > 0 ? 12 : 9)) {
+                case 0 ->
+                    obj.setString(key, STRINGS[random.nextInt(STRINGS.length)]);
+                case 1 ->
+                    obj.setInteger(key, random.nextInt());
+                case 2 ->
+                    obj.setLong(key, random.nextLong());
+                case 3 ->
+                    obj.setDouble(key, random.nextDouble() * 1e6);
+                case 4 ->
+                    obj.setBoolean(key, random.nextBoolean());
+                case 5 ->
+                    obj.put(key, new BigDecimal(new BigInteger(random.nextInt(1, 100), random), random.nextInt(-4, 10)));
+                case 6 ->
+                    obj.setDateTime(key, OffsetDateTime.ofInstant(Instant.ofEpochSecond(random.nextLong(-62_000_000_000L, 250_000_000_000L), random.nextInt(1_000_000_000)),
+                            ZoneOffset.ofTotalSeconds(random.nextInt(-72, 73) * 900)));
+                case 7 ->
+                    obj.put(key, null);
+                case 8 -> {
+                    obj.createStringArray(key);
+                    obj.getStringArray(key).add(STRINGS[random.nextInt(STRINGS.length)]);
+                }
+                case 9 ->
+                    obj.setObject(key, randomObject(random, depth - 1));
+                default -> {
+                    obj.createList(key);
+
+                    for (int j = random.nextInt(4); j > 0; j--) {
+                        obj.getList(key).add(randomObject(random, depth - 1));
+                    }
+                }
+            }
+        }
+
+        return obj;
+    }
+
+    /*
+      Same keys in the same order, with the same types and values
+     */
+    private static void assertSameObject(ApiObject actual, ApiObject expected) {
+        assertEquals(new ArrayList<>(actual.keySet()), new ArrayList<>(expected.keySet()));
+
+        for (String key : expected.keySet()) {
+            assertEquals(actual.getType(key), expected.getType(key), key);
+            assertSameValue(actual.get(key), expected.get(key));
+        }
+    }
+
+    private static void assertSameValue(Object actual, Object expected) {
+        if (expected instanceof ApiObject obj) {
+            assertTrue(actual instanceof ApiObject, String.valueOf(actual));
+            assertSameObject((ApiObject) actual, obj);
+        } else if (expected instanceof List<?> lst) {
+            assertTrue(actual instanceof List<?>, String.valueOf(actual));
+            assertEquals(((List<?>) actual).size(), lst.size());
+
+            for (int i = 0; i < lst.size(); i++) {
+                assertSameValue(((List<?>) actual).get(i), lst.get(i));
+            }
+        } else {
+            assertEquals(actual, expected);
+        }
+    }
+}
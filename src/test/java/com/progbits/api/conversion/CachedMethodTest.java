@@ -0,0 +1,197 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * CachingMethodHandler and cacheMethod
+ */
+public class CachedMethodTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private ApiObjectConverter converter;
+
+    // Writes an object, so copies on store and hit can be checked
+    private final ApiMethodHandler lookup = (from, to, fieldFrom, processObj) -> {
+        calls.incrementAndGet();
+
+        ApiObject found = to.createObject(processObj.getString("field"));
+
+        found.setString("code", String.valueOf(from.get(fieldFrom)));
+        found.setString("format", processObj.getString("format"));
+    };
+
+    @BeforeMethod
+    public void setup() {
+        calls.set(0);
+
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.register("lookup", lookup);
+    }
+
+    private static ApiObject processObj(String format) {
+        ApiObject processObj = new ApiObject();
+
+        processObj.setString("field", "found");
+        processObj.setString("method", "lookup");
+        processObj.setString("format", format);
+
+        return processObj;
+    }
+
+    private static ApiObject subject(Object code) {
+        ApiObject subject = new ApiObject();
+
+        subject.put("code", code);
+
+        return subject;
+    }
+
+    private static ApiObject process(CachingMethodHandler cache, Object code, ApiObject processObj) throws ApiException {
+        ApiObject to = new ApiObject();
+
+        cache.process(subject(code), to, "code", processObj);
+
+        return to;
+    }
+
+    private static long stat(CachingMethodHandler cache, String name) {
+        return cache.getStats().getLong(name);
+    }
+
+    @Test
+    public void hitSkipsMethod() throws ApiException {
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 64, null);
+        ApiObject processObj = processObj("short");
+
+        ApiObject first = process(cache, "TX", processObj);
+        ApiObject second = process(cache, "TX", processObj);
+
+        assertEquals(calls.get(), 1);
+        assertEquals(second.getObject("found").getString("code"), "TX");
+        assertEquals(stat(cache, "hits"), 1);
+        assertEquals(stat(cache, "misses"), 1);
+        assertEquals(stat(cache, "size"), 1);
+        assertNotSame(first.getObject("found"), second.getObject("found"));
+    }
+
+    @Test
+    public void hitIsCopied() throws ApiException {
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 64, null);
+        ApiObject processObj = processObj("short");
+
+        process(cache, "TX", processObj).getObject("found").setString("code", "changed");
+
+        assertEquals(process(cache, "TX", processObj).getObject("found").getString("code"), "TX");
+    }
+
+    @Test
+    public void equalEntriesShareResults() throws ApiException {
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 64, null);
+
+        process(cache, "TX", processObj("short"));
+        process(cache, "TX", processObj("short"));
+        process(cache, "TX", processObj("long"));
+
+        assertEquals(calls.get(), 2);
+    }
+
+    @Test
+    public void nullIsCached() throws ApiException {
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 64, null);
+        ApiObject processObj = processObj("short");
+
+        process(cache, null, processObj);
+        process(cache, null, processObj);
+
+        assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void objectValuesAreNotCached() throws ApiException {
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 64, null);
+        ApiObject processObj = processObj("short");
+
+        process(cache, new ApiObject(), processObj);
+        process(cache, new ApiObject(), processObj);
+
+        assertEquals(calls.get(), 2);
+        assertEquals(stat(cache, "uncacheable"), 2);
+        assertEquals(stat(cache, "size"), 0);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws ApiException {
+        // One entry per segment
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 16, null);
+        ApiObject processObj = processObj("short");
+
+        for (int i = 0; i < 100; i++) {
+            process(cache, i, processObj);
+        }
+
+        assertTrue(stat(cache, "size") <= 16, "Size " + stat(cache, "size"));
+        assertEquals(stat(cache, "evictions"), 100 - stat(cache, "size"));
+    }
+
+    @Test
+    public void entriesExpire() throws ApiException, InterruptedException {
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 64, Duration.ofMillis(1));
+        ApiObject processObj = processObj("short");
+
+        process(cache, "TX", processObj);
+        Thread.sleep(10);
+        process(cache, "TX", processObj);
+
+        assertEquals(calls.get(), 2);
+        assertEquals(stat(cache, "expirations"), 1);
+    }
+
+    @Test
+    public void clearDropsResults() throws ApiException {
+        CachingMethodHandler cache = new CachingMethodHandler(lookup, 64, null);
+        ApiObject processObj = processObj("short");
+
+        process(cache, "TX", processObj);
+        cache.clear();
+        process(cache, "TX", processObj);
+
+        assertEquals(calls.get(), 2);
+    }
+
+    @Test
+    public void cacheMethodWrapsRegisteredMethod() throws ApiException {
+        CachingMethodHandler cache = converter.cacheMethod("lookup", 64, null);
+
+        ApiObject convertObj = new ApiObject();
+        convertObj.setObject("code", processObj("short"));
+
+        converter.convertObjectV2(subject("TX"), convertObj, false);
+        ApiObject converted = converter.convertObjectV2(subject("TX"), convertObj, false);
+
+        assertEquals(converted.getObject("found").getString("code"), "TX");
+        assertEquals(calls.get(), 1);
+        assertEquals(stat(cache, "hits"), 1);
+
+        converter.register("lookup", lookup);
+
+        assertSame(converter.getRegistry().get("lookup"), lookup);
+    }
+
+    @Test
+    public void rejectsBadSettings() {
+        expectThrows(IllegalArgumentException.class, () -> new CachingMethodHandler(lookup, 0, null));
+        expectThrows(IllegalArgumentException.class, () -> new CachingMethodHandler(null, 64, null));
+    }
+}
@@ -0,0 +1,177 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * convertColumnar and ColumnBatch
+ */
+public class ColumnarConversionTest {
+
+    private ApiObjectConverter converter;
+
+    @BeforeClass
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+    }
+
+    private static ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "contact_id");
+
+        ApiObject active = convertObj.createObject("active");
+        active.setString("field", "active_int");
+        active.setString("method", "boolToInt");
+
+        ApiObject age = convertObj.createObject("age");
+        age.setString("field", "age");
+        age.setString("type", "integer");
+
+        ApiObject visits = convertObj.createObject("visits");
+        visits.setString("field", "visits");
+        visits.setString("columnType", "long");
+
+        ApiObject vip = convertObj.createObject("vip");
+        vip.setString("field", "vip_flag");
+        vip.setString("method", "intToBool");
+
+        return convertObj;
+    }
+
+    private static ApiObject contact(int id) {
+        ApiObject contact = new ApiObject();
+
+        contact.setString("id", "C" + id);
+        contact.setBoolean("active", id % 2 == 0);
+        contact.setInteger("age", 20 + id);
+        contact.setLong("visits", 100L * id);
+        contact.setInteger("vip", id % 2);
+
+        return contact;
+    }
+
+    private static List<ApiObject> contacts(int count) {
+        List<ApiObject> contacts = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            contacts.add(contact(i));
+        }
+
+        return contacts;
+    }
+
+    @Test
+    public void schemaFollowsConvertObject() {
+        ColumnSchema schema = converter.getColumnSchema(convertObj());
+
+        assertEquals(schema.getColumnCount(), 5);
+        assertEquals(schema.getName(0), "contact_id");
+        assertEquals(schema.getType(0), ColumnSchema.TYPE_OBJECT);
+        assertEquals(schema.getType(schema.indexOf("active_int")), ColumnSchema.TYPE_INT);
+        assertEquals(schema.getType(schema.indexOf("age")), ColumnSchema.TYPE_INT);
+        assertEquals(schema.getType(schema.indexOf("visits")), ColumnSchema.TYPE_LONG);
+        assertEquals(schema.getType(schema.indexOf("vip_flag")), ColumnSchema.TYPE_BOOLEAN);
+        assertEquals(schema.indexOf("missing"), -1);
+    }
+
+    @Test
+    public void fillsPrimitiveColumns() throws ApiException {
+        ColumnBatch batch = converter.convertColumnar(root(contacts(3)), convertObj());
+        ColumnSchema schema = batch.getSchema();
+
+        assertEquals(batch.getSize(), 3);
+        assertEquals(batch.getObject(0, 2), "C2");
+        assertEquals(batch.getIntColumn(schema.indexOf("active_int"))[0], 1);
+        assertEquals(batch.getIntColumn(schema.indexOf("active_int"))[1], 0);
+        assertEquals(batch.getInt(schema.indexOf("age"), 1), 21);
+        assertEquals(batch.getLongColumn(schema.indexOf("visits"))[2], 200L);
+        assertTrue(batch.getBoolean(schema.indexOf("vip_flag"), 1));
+        assertEquals(batch.getObject(schema.indexOf("visits"), 1), Long.valueOf(100L));
+    }
+
+    @Test
+    public void missingValuesAreNull() throws ApiException {
+        List<ApiObject> contacts = contacts(2);
+
+        contacts.get(1).remove("visits");
+
+        ColumnBatch batch = converter.convertColumnar(root(contacts), convertObj());
+        int visits = batch.getSchema().indexOf("visits");
+
+        assertFalse(batch.isNull(visits, 0));
+        assertTrue(batch.isNull(visits, 1));
+        assertNull(batch.getObject(visits, 1));
+        assertEquals(batch.getNulls(visits)[0], 2L);
+    }
+
+    @Test
+    public void splitsIntoBatches() throws ApiException {
+        List<ColumnBatch> batches = new ArrayList<>();
+
+        long count = converter.convertColumnar(contacts(5).iterator(), convertObj(), 2, batches::add);
+
+        assertEquals(count, 5);
+        assertEquals(batches.size(), 3);
+        assertEquals(batches.get(1).getFirstRow(), 2);
+        assertEquals(batches.get(1).getObject(0, 1), "C3");
+        assertEquals(batches.get(2).getSize(), 1);
+    }
+
+    @Test
+    public void wrongColumnTypeFailsWithRecordIndex() {
+        ApiObject convertObj = new ApiObject();
+
+        ApiObject code = convertObj.createObject("code");
+        code.setString("field", "code");
+        code.setString("columnType", "int");
+
+        List<ApiObject> rows = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            ApiObject row = new ApiObject();
+
+            row.put("code", i == 2 ? "two" : i);
+            rows.add(row);
+        }
+
+        ApiConversionException cvx = expectThrows(ApiConversionException.class, () -> converter.convertColumnar(root(rows), convertObj));
+
+        assertEquals(cvx.getRecordIndex(), 2);
+        assertEquals(cvx.getRecordException().getCode(), 415);
+        assertEquals(cvx.getRecordException().getMessage(), "code Expected Column Type int");
+    }
+
+    @Test
+    public void emptyRootIsEmptyBatch() throws ApiException {
+        ColumnBatch batch = converter.convertColumnar(root(List.of()), convertObj());
+
+        assertEquals(batch.getSize(), 0);
+        assertEquals(batch.getSchema().getColumnCount(), 5);
+    }
+
+    @Test
+    public void rejectsBatchSizeBelowOne() {
+        expectThrows(IllegalArgumentException.class, () -> converter.convertColumnar(contacts(1).iterator(), convertObj(), 0, batch -> {
+        }));
+    }
+
+    private static ApiObject root(List<ApiObject> records) {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+        root.getList("root").addAll(records);
+
+        return root;
+    }
+}
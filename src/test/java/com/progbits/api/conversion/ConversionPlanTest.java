@@ -0,0 +1,399 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import com.progbits.api.model.ApiObjectUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * A cached ConversionPlan must convert the same as the interpreter it
+ * replaced, and the cache must follow the content of the Convert Object
+ */
+public class ConversionPlanTest {
+
+    private ApiObjectConverter converter;
+
+    @BeforeClass
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.register("upper", (from, to, fieldFrom, processObj) -> {
+            if (from.get(fieldFrom) != null) {
+                converter.setField(to, processObj.getString("field"), from.getString(fieldFrom).toUpperCase());
+            }
+        });
+        converter.register("initials", (from, to, fieldFrom, processObj) -> {
+            if (from.get(fieldFrom) != null) {
+                converter.setField(to, processObj.getString("field"), from.getString(fieldFrom).charAt(0) + "" + from.getString("lastName").charAt(0));
+            }
+        });
+    }
+
+    private static ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "contact_id");
+
+        ApiObject lastName = convertObj.createObject("lastName");
+        lastName.setString("field", "name.last");
+        lastName.setBoolean("required", true);
+
+        ApiObject firstName = convertObj.createObject("firstName");
+        firstName.setString("field", "name.first");
+        firstName.setString("method", "upper");
+        firstName.setString("default", "unknown");
+
+        ApiObject initials = convertObj.createObject("firstName#initials");
+        initials.setString("field", "initials");
+        initials.setString("method", "initials");
+        // A default only applies to its own entry, the subject is not changed
+        initials.setString("default", "unknown");
+
+        ApiObject age = convertObj.createObject("age");
+        age.setString("field", "age_years");
+        age.setString("type", "integer");
+        age.setInteger("default", 0);
+
+        ApiObject active = convertObj.createObject("active");
+        active.setString("field", "is_active");
+        active.setString("method", "boolToInt");
+
+        convertObj.setString("city", "address.city");
+        convertObj.setBoolean("orderBy", true);
+
+        convertObj.createStringArray("$required");
+        convertObj.getStringArray("$required").add("lastName");
+
+        return convertObj;
+    }
+
+    private static List<ApiObject> subjects() {
+        List<ApiObject> subjects = new ArrayList<>();
+
+        ApiObject full = new ApiObject();
+        full.setInteger("id", 1);
+        full.setString("firstName", "ann");
+        full.setString("lastName", "smith");
+        full.setInteger("age", 30);
+        full.setBoolean("active", true);
+        full.setString("city", "Austin");
+        full.setString("extra", "kept with includeAll");
+        full.createStringArray("orderBy");
+        full.getStringArray("orderBy").add("lastName");
+        full.getStringArray("orderBy").add("-age");
+        full.getStringArray("orderBy").add("city");
+        subjects.add(full);
+
+        ApiObject defaults = new ApiObject();
+        defaults.setInteger("id", 2);
+        defaults.setString("lastName", "jones");
+        defaults.setBoolean("active", false);
+        defaults.createStringArray("orderBy");
+        subjects.add(defaults);
+
+        ApiObject missingRequired = new ApiObject();
+        missingRequired.setInteger("id", 3);
+        missingRequired.setString("firstName", "cy");
+        missingRequired.setBoolean("active", true);
+        missingRequired.createStringArray("orderBy");
+        subjects.add(missingRequired);
+
+        ApiObject wrongType = ApiObjectUtils.cloneApiObject(full, null);
+        wrongType.setString("age", "thirty");
+        subjects.add(wrongType);
+
+        ApiObject root = new ApiObject();
+        root.createList("root");
+        root.getList("root").add(ApiObjectUtils.cloneApiObject(full, null));
+        root.getList("root").add(ApiObjectUtils.cloneApiObject(defaults, null));
+        subjects.add(root);
+
+        return subjects;
+    }
+
+    @Test
+    public void convertObjectMatchesBaseline() throws ApiException {
+        Baseline baseline = new Baseline(converter.getRegistry().getMethods());
+
+        for (boolean includeAll : new boolean[]{false, true}) {
+            for (ApiObject subject : subjects()) {
+                assertSameResult(() -> converter.convertObject(subject, convertObj(), includeAll),
+                        () -> baseline.convertObject(ApiObjectUtils.cloneApiObject(subject, null), convertObj(), includeAll));
+            }
+        }
+    }
+
+    @Test
+    public void convertObjectV2MatchesBaseline() throws ApiException {
+        Baseline baseline = new Baseline(converter.getRegistry().getMethods());
+
+        for (boolean includeAll : new boolean[]{false, true}) {
+            for (ApiObject subject : subjects()) {
+                assertSameResult(() -> converter.convertObjectV2(subject, convertObj(), includeAll),
+                        () -> baseline.convertObjectV2(ApiObjectUtils.cloneApiObject(subject, null), convertObj(), includeAll));
+            }
+        }
+    }
+
+    @Test
+    public void equalConvertObjectsShareAPlan() {
+        ConversionPlan plan = converter.getPlan(convertObj());
+
+        assertSame(converter.getPlan(convertObj()), plan);
+        assertSame(converter.getPlan(ApiObjectUtils.cloneApiObject(convertObj(), null)), plan);
+    }
+
+    @Test
+    public void changedConvertObjectGetsNewPlan() throws ApiException {
+        ApiObject convertObj = convertObj();
+        ApiObject subject = subjects().get(0);
+        ConversionPlan plan = converter.getPlan(convertObj);
+
+        assertEquals(converter.convertObjectV2(subject, convertObj, false).getInteger("contact_id"), Integer.valueOf(1));
+
+        convertObj.setString("id", "key");
+
+        assertNotSame(converter.getPlan(convertObj), plan);
+        assertEquals(converter.convertObjectV2(subject, convertObj, false).getInteger("key"), Integer.valueOf(1));
+        assertEquals(converter.convertObjectV2(subject, convertObj, false).get("contact_id"), null);
+
+        convertObj.getObject("age").setString("field", "years");
+
+        assertEquals(converter.convertObjectV2(subject, convertObj, false).getInteger("years"), Integer.valueOf(30));
+    }
+
+    @Test
+    public void planKeepsItsOwnCopy() throws ApiException {
+        ApiObject convertObj = convertObj();
+        ConversionPlan plan = converter.getPlan(convertObj);
+
+        convertObj.setString("city", "town");
+        plan.getConvertObject().setString("city", "town");
+
+        assertEquals(converter.convertObjectV2(subjects().get(0), plan, false).getObject("address").getString("city"), "Austin");
+    }
+
+    @Test
+    public void nameFollowsContent() {
+        ApiObject convertObj = convertObj();
+
+        convertObj.setString("named", "named");
+        converter.getPlan(convertObj).setName("CONVERT_NAMED");
+        converter.clearPlans();
+
+        ApiObject equal = convertObj();
+
+        equal.setString("named", "named");
+
+        assertEquals(converter.getPlan(equal).getName(), "CONVERT_NAMED");
+        assertEquals(converter.getPlan(convertObj()).getName(), ConversionPlan.UNNAMED);
+    }
+
+    private interface Conversion {
+
+        ApiObject convert() throws ApiException;
+    }
+
+    private static void assertSameResult(Conversion actual, Conversion expected) throws ApiException {
+        ApiObject expectedObj = null;
+        String expectedError = null;
+
+        try {
+            expectedObj = expected.convert();
+        } catch (ApiException apx) {
+            expectedError = apx.getMessage();
+        }
+
+        if (expectedError != null) {
+            try {
+                actual.convert();
+            } catch (ApiException apx) {
+                assertEquals(apx.getMessage(), expectedError);
+                return;
+            }
+
+            throw new AssertionError("Expected " + expectedError);
+        }
+
+        assertEquals(JsonCodec.write(actual.convert()), JsonCodec.write(expectedObj));
+    }
+
+    /**
+     * convertObject and convertObjectV2 as they were before Plans, which
+     * interpret the Convert Object for every record
+     */
+    private static final class Baseline {
+
+        private final Map<String, ApiMethodHandler> methods;
+
+        Baseline(Map<String, ApiMethodHandler> methods) {
+            this.methods = methods;
+        }
+
+        ApiObject convertObject(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
+            if (subject.containsKey("root")) {
+                ApiObject respObj = new ApiObject();
+
+                respObj.createList("root");
+
+                for (var entry : subject.getList("root")) {
+                    respObj.getList("root").add(convertSingle(entry, convertObj, includeAll));
+                }
+
+                return respObj;
+            } else {
+                return convertSingle(subject, convertObj, includeAll);
+            }
+        }
+
+        ApiObject convertObjectV2(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
+            if (subject.containsKey("root")) {
+                ApiObject respObj = new ApiObject();
+
+                respObj.createList("root");
+
+                for (var entry : subject.getList("root")) {
+                    respObj.getList("root").add(convertSingleV2(entry, convertObj, includeAll));
+                }
+
+                return respObj;
+            } else {
+                return convertSingleV2(subject, convertObj, includeAll);
+            }
+        }
+
+        private ApiObject convertSingle(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
+            ApiObject respObj = new ApiObject();
+
+            if (convertObj.getType("$required") == ApiObject.TYPE_STRINGARRAY) {
+                StringBuilder sbErr = new StringBuilder();
+
+                for (String entry : convertObj.getStringArray("$required")) {
+                    if (!subject.isSet(entry)) {
+                        if (!sbErr.isEmpty()) {
+                            sbErr.append("\n");
+                        }
+
+                        sbErr.append(entry).append(" IS REQUIRED");
+                    }
+                }
+
+                if (!sbErr.isEmpty()) {
+                    throw new ApiException(400, sbErr.toString());
+                }
+            }
+
+            for (String subjectFld : subject.keySet()) {
+                if (convertObj.getType(subjectFld) == ApiObject.TYPE_STRING) {
+                    setField(respObj, convertObj.getString(subjectFld), subject.get(subjectFld));
+                } else if (convertObj.getType(subjectFld) == ApiObject.TYPE_OBJECT) {
+                    var toMethod = convertObj.getString(subjectFld + ".method");
+
+                    if (toMethod != null) {
+                        if (methods.containsKey(toMethod)) {
+                            methods.get(toMethod).process(subject, respObj, subjectFld, convertObj.getObject(subjectFld));
+                        } else {
+                            throw new ApiException(415, String.format("Method <%s> for Field <%s> Does Not Exist", toMethod, subjectFld));
+                        }
+                    }
+                } else if (includeAll) {
+                    if ("orderBy".equals(subjectFld)) {
+                        renameOrderBy(subject, respObj, convertObj, subjectFld);
+                    } else {
+                        respObj.put(subjectFld, subject.get(subjectFld));
+                    }
+                }
+            }
+
+            return respObj;
+        }
+
+        private ApiObject convertSingleV2(ApiObject subject, ApiObject convertObj, boolean includeAll) throws ApiException {
+            ApiObject respObj = new ApiObject();
+
+            for (String convertFld : convertObj.keySet()) {
+                if (convertObj.getType(convertFld) == ApiObject.TYPE_STRING) {
+                    setField(respObj, convertObj.getString(convertFld), subject.get(convertFld));
+                } else if (convertObj.getType(convertFld) == ApiObject.TYPE_OBJECT) {
+                    ApiObject convert = convertObj.getObject(convertFld);
+                    String intFld = convertFld;
+
+                    if (intFld.contains("#")) {
+                        intFld = intFld.substring(0, intFld.indexOf("#"));
+                    }
+
+                    var toMethod = convert.getString("method");
+
+                    if (convert.isSet("default") && subject.getType(intFld) == ApiObject.TYPE_NULL) {
+                        subject.put(intFld, convert.get("default"));
+                    }
+
+                    if (convert.isSet("required") && subject.isNull(intFld)) {
+                        throw new ApiException(415, intFld + " IS Required");
+                    }
+
+                    if (convert.isSet("type") && FieldRule.typeCode(convert.getString("type")) != subject.getType(intFld)) {
+                        throw new ApiException(415, intFld + " Expected Type " + convert.getString("type"));
+                    }
+
+                    if (toMethod != null) {
+                        if (methods.containsKey(toMethod)) {
+                            methods.get(toMethod).process(subject, respObj, intFld, convert);
+                        } else {
+                            throw new ApiException(415, String.format("Method <%s> for Field <%s> Does Not Exist", toMethod, intFld));
+                        }
+                    } else {
+                        setField(respObj, convert.getString("field"), subject.get(intFld));
+                    }
+                } else if (includeAll) {
+                    if ("orderBy".equals(convertFld)) {
+                        renameOrderBy(subject, respObj, convertObj, convertFld);
+                    } else {
+                        respObj.put(convertFld, subject.get(convertFld));
+                    }
+                }
+            }
+
+            return respObj;
+        }
+
+        private void renameOrderBy(ApiObject subject, ApiObject respObj, ApiObject convertObj, String orderFld) {
+            respObj.createStringArray(orderFld);
+
+            for (var orderEntry : subject.getStringArray("orderBy")) {
+                boolean minusExists = orderEntry.startsWith("-");
+                String lclOrderEntry = minusExists ? orderEntry.substring(1) : orderEntry;
+                String replaceEntry;
+
+                if (convertObj.getType(lclOrderEntry) == ApiObject.TYPE_OBJECT) {
+                    replaceEntry = convertObj.getString(lclOrderEntry + ".field");
+                } else {
+                    replaceEntry = convertObj.getString(lclOrderEntry);
+                }
+
+                respObj.getStringArray(orderFld).add(minusExists ? "-" + replaceEntry : replaceEntry);
+            }
+        }
+
+        private static void setField(ApiObject to, String fieldName, Object value) {
+            if (fieldName.contains(".")) {
+                String[] sName = fieldName.split("\\.");
+
+                if (to.getType(sName[0]) != ApiObject.TYPE_OBJECT) {
+                    to.createObject(sName[0]);
+                }
+
+                to.getObject(sName[0]).put(sName[1], value);
+            } else {
+                to.put(fieldName, value);
+            }
+        }
+    }
+}
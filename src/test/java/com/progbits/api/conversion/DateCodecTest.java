@@ -0,0 +1,256 @@
+package com.progbits.api.conversion;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the hand written ISO parser and formatter with the JDK
+ */
+public class DateCodecTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private static final String MUTATIONS = "0123456789-+:.TtZz ";
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    public void formatIsoMatchesJdk() {
+        Random random = new Random(8);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            OffsetDateTime value = randomDateTime(random);
+
+            assertEquals(DateCodec.formatIso(value), DateTimeFormatter.ISO_DATE_TIME.format(value), value.toString());
+        }
+    }
+
+    @Test
+    public void signedYears() {
+        OffsetDateTime value = OffsetDateTime.of(12345, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+        assertEquals(DateCodec.formatIso(value), DateTimeFormatter.ISO_DATE_TIME.format(value));
+        assertEquals(DateCodec.formatIso(value.withYear(-1)), DateTimeFormatter.ISO_DATE_TIME.format(value.withYear(-1)));
+        assertEquals(DateCodec.parseIso(DateCodec.formatIso(value), null), value);
+        assertEquals(DateCodec.parseIso("-0001-01-02", null), LocalDate.of(-1, 1, 2).atStartOfDay(ZoneOffset.UTC).toOffsetDateTime());
+    }
+
+    @Test
+    public void parseIsoMatchesJdk() {
+        Random random = new Random(8);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            String text = randomIso(random);
+            ZoneId zone = randomZone(random);
+
+            assertEquals(DateCodec.parseIso(text, zone), jdkParse(text, zone), text + " in " + zone);
+        }
+    }
+
+    @Test
+    public void parseIsoRejectsWhatJdkRejects() {
+        Random random = new Random(8);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            String text = mutate(random, randomIso(random));
+            ZoneId zone = randomZone(random);
+
+            assertEquals(DateCodec.parseIso(text, zone), jdkParse(text, zone), text + " in " + zone);
+        }
+    }
+
+    @Test
+    public void parseIsoRoundTrip() {
+        Random random = new Random(8);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            OffsetDateTime value = randomDateTime(random);
+
+            assertEquals(DateCodec.parseIso(DateCodec.formatIso(value), null), value);
+        }
+    }
+
+    @Test
+    public void parseIsoDefaults() {
+        assertEquals(DateCodec.parseIso("2024-03-10", null), OffsetDateTime.of(2024, 3, 10, 0, 0, 0, 0, ZoneOffset.UTC));
+        assertEquals(DateCodec.parseIso("2024-03-10", NEW_YORK), OffsetDateTime.of(2024, 3, 10, 0, 0, 0, 0, ZoneOffset.ofHours(-5)));
+
+        // 02:30 does not exist on this day in New York, the same as ZonedDateTime it moves forward
+        assertEquals(DateCodec.parseIso("2024-03-10T02:30", NEW_YORK), OffsetDateTime.of(2024, 3, 10, 3, 30, 0, 0, ZoneOffset.ofHours(-4)));
+
+        assertNull(DateCodec.parseIso("2024-03-10T02:30", null));
+        assertNull(DateCodec.parseIso("2023-02-29", null));
+        assertNull(DateCodec.parseIso("2024-03-10T24:00Z", null));
+        assertNull(DateCodec.parseIso("2024-03-10T10:00+19:00", null));
+        assertNull(DateCodec.parseIso("", null));
+    }
+
+    @Test
+    public void customPatternsMatchJdk() {
+        Random random = new Random(8);
+        String[] patterns = {"yyyy-MM-dd HH:mm:ss", "dd/MM/uuuu", "yyyyMMddHHmmssSSS", "yyyy-MM-dd'T'HH:mmXXX", "MMM d, yyyy h:mm a"};
+
+        for (String pattern : patterns) {
+            DateTimeFormatter fmt = DateCodec.formatter(pattern);
+
+            for (int i = 0; i < 10_000; i++) {
+                OffsetDateTime value = randomDateTime(random).withNano(random.nextInt(1000) * 1_000_000);
+                ZoneId zone = randomZone(random);
+                String text = DateCodec.format(value, fmt, zone);
+
+                assertEquals(text, fmt.format(zone != null ? value.atZoneSameInstant(zone) : value.toZonedDateTime()));
+                assertEquals(DateCodec.parse(text, fmt, zone), jdkParse(text, fmt, zone), text + " with " + pattern);
+            }
+        }
+
+        assertNull(DateCodec.formatter("yyyy-MM-dd'"));
+        assertNull(DateCodec.parse("2024-02-32", DateCodec.formatter("yyyy-MM-dd"), null));
+        assertNull(DateCodec.parse("2024-02-10 extra", DateCodec.formatter("yyyy-MM-dd"), null));
+    }
+
+    private static OffsetDateTime jdkParse(String text, ZoneId zone) {
+        try {
+            return OffsetDateTime.parse(text);
+        } catch (DateTimeException dte) {
+            // Try the shapes without an offset
+        }
+
+        try {
+            LocalDateTime local = LocalDateTime.parse(text);
+
+            return zone != null ? local.atZone(zone).toOffsetDateTime() : null;
+        } catch (DateTimeException dte) {
+            // Try a date only
+        }
+
+        try {
+            return LocalDate.parse(text).atStartOfDay(zone != null ? zone : ZoneOffset.UTC).toOffsetDateTime();
+        } catch (DateTimeException dte) {
+            return null;
+        }
+    }
+
+    private static OffsetDateTime jdkParse(String text, DateTimeFormatter fmt, ZoneId zone) {
+        try {
+            return fmt.parseBest(text, OffsetDateTime::from, LocalDateTime::from, LocalDate::from) instanceof OffsetDateTime offset
+                    ? offset
+                    : fmt.parseBest(text, LocalDateTime::from, LocalDate::from) instanceof LocalDateTime local
+                    ? local.atZone(zone != null ? zone : ZoneOffset.UTC).toOffsetDateTime()
+                    : LocalDate.parse(text, fmt).atStartOfDay(zone != null ? zone : ZoneOffset.UTC).toOffsetDateTime();
+        } catch (DateTimeException dte) {
+            return null;
+        }
+    }
+
+    private static OffsetDateTime randomDateTime(Random random) {
+        LocalDate date = LocalDate.ofEpochDay(random.nextLong(LocalDate.of(0, 1, 1).toEpochDay(), LocalDate.of(9999, 12, 31).toEpochDay() + 1));
+        int nano = switch (random.nextInt(4)) {
+            case 0 ->
+                0;
+            case 1 ->
+                random.nextInt(1000) * 1_000_000;
+            case 2 ->
+                random.nextInt(1_000_000) * 1000;
+            default ->
+                random.nextInt(1_000_000_000);
+        };
+        int offset = switch (random.nextInt(4)) {
+            case 0 ->
+                0;
+            case 1 ->
+                random.nextInt(-18, 19) * 3600;
+            case 2 ->
+                random.nextInt(-18 * 4, 18 * 4 + 1) * 900;
+            default ->
+                random.nextInt(-18 * 3600, 18 * 3600 + 1);
+        };
+
+        return OffsetDateTime.of(date, java.time.LocalTime.ofNanoOfDay(random.nextLong(86_400_000_000_000L)).withNano(nano), ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    private static ZoneId randomZone(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 ->
+                null;
+            case 1 ->
+                ZoneOffset.ofHours(random.nextInt(-12, 13));
+            default ->
+                NEW_YORK;
+        };
+    }
+
+    /**
+     * Every shape parseIso accepts, with and without an offset
+     */
+    private static String randomIso(Random random) {
+        OffsetDateTime value = randomDateTime(random);
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("%04d-%02d-%02d", value.getYear(), value.getMonthValue(), value.getDayOfMonth()));
+
+        if (random.nextInt(6) == 0) {
+            return sb.toString();
+        }
+
+        sb.append(random.nextInt(8) == 0 ? 't' : 'T');
+        sb.append(String.format("%02d:%02d", value.getHour(), value.getMinute()));
+
+        if (random.nextInt(4) != 0) {
+            sb.append(String.format(":%02d", value.getSecond()));
+
+            if (random.nextBoolean()) {
+                String fraction = String.format("%09d", value.getNano());
+
+                sb.append('.').append(fraction, 0, random.nextInt(1, 10));
+            }
+        }
+
+        int offset = value.getOffset().getTotalSeconds();
+        int abs = Math.abs(offset);
+
+        switch (random.nextInt(5)) {
+            case 0 ->
+                sb.append('Z');
+            case 1 ->
+                sb.append(String.format("%s%02d", offset < 0 ? "-" : "+", abs / 3600));
+            case 2 ->
+                sb.append(String.format("%s%02d:%02d", offset < 0 ? "-" : "+", abs / 3600, abs / 60 % 60));
+            case 3 ->
+                sb.append(String.format("%s%02d:%02d:%02d", offset < 0 ? "-" : "+", abs / 3600, abs / 60 % 60, abs % 60));
+            default -> {
+                // No offset
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Replace, insert or remove a character
+     */
+    private static String mutate(Random random, String text) {
+        StringBuilder sb = new StringBuilder(text);
+        int pos = random.nextInt(sb.length());
+        char c = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+
+        switch (random.nextInt(3)) {
+            case 0 ->
+                sb.setCharAt(pos, c);
+            case 1 ->
+                sb.insert(pos, c);
+            default ->
+                sb.deleteCharAt(pos);
+        }
+
+        return sb.toString();
+    }
+}
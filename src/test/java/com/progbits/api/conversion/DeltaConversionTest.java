@@ -0,0 +1,135 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * convertDelta and convertDeltaFromTarget
+ */
+public class DeltaConversionTest {
+
+    private ApiObjectConverter converter;
+    private AtomicInteger upperCalls;
+
+    @BeforeMethod
+    public void setup() {
+        upperCalls = new AtomicInteger();
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.register("upper", (from, to, fieldFrom, processObj) -> {
+            upperCalls.incrementAndGet();
+
+            converter.setField(to, processObj.getString("field"), from.getString(fieldFrom).toUpperCase());
+        });
+    }
+
+    private ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "contact_id");
+
+        ApiObject lastName = convertObj.createObject("lastName");
+        lastName.setString("field", "last_name");
+        lastName.setString("method", "upper");
+
+        ApiObject status = convertObj.createObject("status");
+        status.setString("field", "status");
+        status.setString("default", "NEW");
+
+        ApiObject age = convertObj.createObject("age");
+        age.setString("field", "age");
+        age.setString("type", "integer");
+        age.setInteger("default", 0);
+
+        return convertObj;
+    }
+
+    private ApiObject contact(int id, String lastName) {
+        ApiObject contact = new ApiObject();
+
+        contact.setInteger("id", id);
+        contact.setString("lastName", lastName);
+
+        return contact;
+    }
+
+    @Test
+    public void unchangedRecordIsEmpty() throws ApiException {
+        DeltaResult delta = converter.convertDelta(contact(1, "smith"), contact(1, "smith"), convertObj());
+
+        assertTrue(delta.isEmpty(), delta.toString());
+        assertEquals(upperCalls.get(), 0);
+    }
+
+    @Test
+    public void defaultOnBothSidesIsNotAChange() throws ApiException {
+        ApiObject convertObj = convertObj();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(converter.convertDelta(contact(1, "smith"), contact(1, "smith"), convertObj).isEmpty());
+        }
+    }
+
+    @Test
+    public void reportsOnlyChangedFields() throws ApiException {
+        DeltaResult delta = converter.convertDelta(contact(1, "jones"), contact(1, "smith"), convertObj());
+
+        assertEquals(delta.getChangedFields(), Set.of("last_name"));
+        assertEquals(delta.getChanges().getString("last_name"), "JONES");
+        assertEquals(upperCalls.get(), 1);
+    }
+
+    @Test
+    public void clearedFieldWritesDefault() throws ApiException {
+        ApiObject previous = contact(1, "smith");
+
+        previous.setString("status", "ACTIVE");
+
+        DeltaResult delta = converter.convertDelta(contact(1, "smith"), previous, convertObj());
+
+        assertEquals(delta.getChangedFields(), Set.of("status"));
+        assertEquals(delta.getChanges().getString("status"), "NEW");
+    }
+
+    @Test
+    public void noPreviousConvertsEverySetField() throws ApiException {
+        DeltaResult delta = converter.convertDelta(contact(2, "smith"), null, convertObj());
+
+        assertEquals(delta.getChangedFields(), Set.of("contact_id", "last_name"));
+        assertEquals(delta.getChanges().getInteger("contact_id"), Integer.valueOf(2));
+    }
+
+    @Test
+    public void unchangedFieldIsStillValidated() {
+        ApiObject subject = contact(1, "smith");
+        ApiObject previous = contact(1, "smith");
+
+        subject.setString("age", "ten");
+        previous.setString("age", "ten");
+
+        expectThrows(ApiException.class, () -> converter.convertDelta(subject, previous, convertObj()));
+    }
+
+    @Test
+    public void fromTargetKeepsDifferingFields() throws ApiException {
+        ApiObject previousTarget = new ApiObject();
+
+        previousTarget.setInteger("contact_id", 1);
+        previousTarget.setString("last_name", "SMITH");
+        previousTarget.setString("status", "NEW");
+        previousTarget.setInteger("age", 0);
+
+        assertTrue(converter.convertDeltaFromTarget(contact(1, "smith"), previousTarget, convertObj()).isEmpty());
+
+        DeltaResult delta = converter.convertDeltaFromTarget(contact(1, "jones"), previousTarget, convertObj());
+
+        assertEquals(delta.getChangedFields(), Set.of("last_name"));
+    }
+}
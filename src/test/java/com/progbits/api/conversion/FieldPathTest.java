@@ -0,0 +1,136 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * FieldPath parsing, reads and writes
+ */
+public class FieldPathTest {
+
+    private static ApiObject order() {
+        ApiObject order = new ApiObject();
+
+        order.createList("items");
+
+        ApiObject item = new ApiObject();
+        item.setString("sku", "A-1");
+        order.getList("items").add(item);
+
+        ApiObject address = order.createObject("address");
+        address.createObject("geo").setString("lat", "30.2");
+
+        return order;
+    }
+
+    @Test
+    public void readsNestedObjectsAndIndexes() {
+        ApiObject order = order();
+
+        assertEquals(FieldPath.of("address.geo.lat").read(order), "30.2");
+        assertEquals(FieldPath.of("items[0].sku").read(order), "A-1");
+        assertSame(FieldPath.of("items[0]").read(order), order.getList("items").get(0));
+        assertNull(FieldPath.of("address.city.name").read(order));
+        assertFalse(FieldPath.of("items[0].sku").isSimple());
+    }
+
+    @Test
+    public void writesShareParents() {
+        ApiObject to = new ApiObject();
+
+        FieldPath.of("contact.name.first").write(to, "Ann");
+        FieldPath.of("contact.name.last").write(to, "Lee");
+        FieldPath.of("items[0].sku").write(to, "A-1");
+        FieldPath.of("items[0].qty").write(to, 2);
+
+        assertEquals(to.getObject("contact").getObject("name").getString("first"), "Ann");
+        assertEquals(to.getObject("contact").getObject("name").getString("last"), "Lee");
+        assertEquals(to.getList("items").size(), 1);
+        assertEquals(to.getList("items").get(0).getInteger("qty"), Integer.valueOf(2));
+    }
+
+    @Test
+    public void escapedCharactersStayInName() {
+        FieldPath path = FieldPath.of("meta.version\\.major");
+        ApiObject to = new ApiObject();
+
+        path.write(to, "3");
+
+        assertEquals(to.getObject("meta").getString("version.major"), "3");
+        assertEquals(path.read(to), "3");
+        assertEquals(FieldPath.of("tags\\[0]").leafName(), "tags[0]");
+        assertTrue(FieldPath.of("tags\\[0]").isSimple());
+        assertEquals(FieldPath.of("back\\\\slash").leafName(), "back\\slash");
+    }
+
+    @DataProvider
+    public Object[][] invalidPaths() {
+        return new Object[][]{
+            {"a..b"},
+            {".a"},
+            {"a."},
+            {"tags[x]"},
+            {"tags[]"},
+            {"tags[0"},
+            {"tags[0]x"},
+            {"tags[-1]"},
+            {"tags[1234567890]"},
+            {"a\\"}
+        };
+    }
+
+    @Test(dataProvider = "invalidPaths")
+    public void invalidPathIsLiteralField(String name) {
+        FieldPath path = FieldPath.of(name);
+        ApiObject to = new ApiObject();
+
+        assertTrue(path.isSimple());
+        assertEquals(path.leafName(), name);
+
+        new ApiObjectConverter().setField(to, name, "value");
+
+        assertEquals(to.get(name), "value");
+        assertEquals(path.read(to), "value");
+    }
+
+    @Test
+    public void indexPastEndAppends() {
+        ApiObject to = new ApiObject();
+
+        FieldPath.of("codes[5]").write(to, "X");
+        FieldPath.of("codes[0]").write(to, "Y");
+
+        assertEquals(to.getStringArray("codes"), List.of("Y"));
+
+        FieldPath.of("codes[3]").write(to, "Z");
+
+        assertEquals(to.getStringArray("codes"), List.of("Y", "Z"));
+    }
+
+    @Test
+    public void indexPastEndReadsNull() {
+        ApiObject order = order();
+
+        assertNull(FieldPath.of("items[1].sku").read(order));
+        assertNull(FieldPath.of("items[999999999].sku").read(order));
+        assertNull(FieldPath.of("address[0]").read(order));
+    }
+
+    @Test
+    public void containerOfNestedField() {
+        ApiObject order = order();
+
+        assertSame(FieldPath.of("address.geo.lat").container(order), order.getObject("address").getObject("geo"));
+
+        ApiObject holder = FieldPath.of("items[0]").container(order);
+
+        assertSame(holder.get("items[0]"), order.getList("items").get(0));
+    }
+}
@@ -0,0 +1,245 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * A fused Plan must give the same result as converting with each stage in
+ * turn
+ */
+public class FusedPlanTest {
+
+    private final AtomicInteger upperCalls = new AtomicInteger();
+
+    private ApiObjectConverter converter;
+
+    @BeforeClass
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.register("upper", (from, to, fieldFrom, processObj) -> {
+            upperCalls.incrementAndGet();
+
+            if (from.get(fieldFrom) != null) {
+                converter.setField(to, processObj.getString("field"), from.getString(fieldFrom).toUpperCase());
+            }
+        });
+        converter.register("length", (from, to, fieldFrom, processObj) -> {
+            if (from.get(fieldFrom) != null) {
+                converter.setField(to, processObj.getString("field"), from.getString(fieldFrom).length());
+            }
+        });
+    }
+
+    @BeforeMethod
+    public void reset() {
+        upperCalls.set(0);
+    }
+
+    @Test
+    public void twoStagesConvertInOnePass() throws ApiException {
+        FusedPlan fused = converter.compose(apiToCanon(), canonToDb());
+        ApiObject row = converter.convertObjectV2(contact(7, "Ann", "Lee", "Austin", true), fused);
+
+        assertEquals(row.getInteger("db_id"), Integer.valueOf(7));
+        assertEquals(row.getObject("db").getString("city"), "Austin");
+        assertEquals(row.getString("last_name"), "Lee");
+        assertEquals(row.getInteger("first_length"), Integer.valueOf(3));
+        assertEquals(row.getString("first_name"), "ANN");
+        assertEquals(row.getBoolean("active"), Boolean.TRUE);
+        assertNull(row.get("extra"));
+    }
+
+    @Test
+    public void twoStagesMatchSequential() throws ApiException {
+        ApiObject apiToCanon = apiToCanon();
+        ApiObject canonToDb = canonToDb();
+        FusedPlan fused = converter.compose(apiToCanon, canonToDb);
+
+        for (ApiObject record : contacts()) {
+            ApiObject sequential = converter.convertObjectV2(converter.convertObjectV2(record, apiToCanon, false), canonToDb, false);
+
+            assertEquals(JsonCodec.write(converter.convertObjectV2(record, fused)), JsonCodec.write(sequential));
+        }
+    }
+
+    @Test
+    public void threeStagesMatchSequential() throws ApiException {
+        ApiObject apiToCanon = apiToCanon();
+        ApiObject canonToDb = canonToDb();
+        ApiObject dbToReport = dbToReport();
+        FusedPlan fused = converter.compose(apiToCanon, canonToDb, dbToReport);
+
+        assertEquals(fused.getName().split(" > ").length, 3);
+
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+        root.getList("root").addAll(contacts());
+
+        ApiObject sequential = root;
+
+        for (ApiObject stage : List.of(apiToCanon, canonToDb, dbToReport)) {
+            sequential = converter.convertObjectV2(sequential, stage, false);
+        }
+
+        ApiObject converted = converter.convertObjectV2(root, fused);
+
+        assertEquals(JsonCodec.write(converted), JsonCodec.write(sequential));
+        assertEquals(converted.getList("root").get(1).getInteger("firstLength"), Integer.valueOf(0));
+    }
+
+    @Test
+    public void failsLikeSequential() throws ApiException {
+        ApiObject apiToCanon = apiToCanon();
+        ApiObject canonToDb = canonToDb();
+        FusedPlan fused = converter.compose(apiToCanon, canonToDb);
+        ApiObject subject = contact(1, "Ann", "Lee", "Austin", true);
+
+        subject.remove("id");
+
+        ApiException sequential = expectThrows(ApiException.class,
+                () -> converter.convertObjectV2(converter.convertObjectV2(subject, apiToCanon, false), canonToDb, false));
+        ApiException apx = expectThrows(ApiException.class, () -> converter.convertObjectV2(subject, fused));
+
+        assertEquals(apx.getMessage(), sequential.getMessage());
+    }
+
+    @Test
+    public void droppedMethodIsNotCalled() throws ApiException {
+        ApiObject idOnly = new ApiObject();
+
+        idOnly.setString("canonId", "db_id");
+
+        converter.convertObjectV2(contact(1, "Ann", "Lee", "Austin", true), converter.compose(apiToCanon(), idOnly));
+
+        assertEquals(upperCalls.get(), 0);
+    }
+
+    @Test
+    public void droppedFieldsAreNotFusable() {
+        ApiObject apiToCanon = apiToCanon();
+        ApiObject readsDropped = new ApiObject();
+
+        readsDropped.setString("canonId", "db_id");
+        readsDropped.setString("extra", "db_extra");
+
+        ApiObject report = converter.validateComposition(apiToCanon, readsDropped);
+
+        assertFalse(report.getBoolean("fusable"));
+        assertEquals(report.getStringArray("issues").size(), 1);
+        assertTrue(report.getStringArray("issues").get(0).contains("extra"));
+
+        expectThrows(ApiException.class, () -> converter.compose(apiToCanon, readsDropped));
+    }
+
+    private static ApiObject contact(int id, String firstName, String lastName, String city, boolean active) {
+        ApiObject contact = new ApiObject();
+
+        contact.setInteger("id", id);
+        contact.setString("firstName", firstName);
+        contact.setString("lastName", lastName);
+        contact.setBoolean("active", active);
+        contact.setString("extra", "dropped");
+
+        if (city != null) {
+            contact.createObject("address").setString("city", city);
+        }
+
+        return contact;
+    }
+
+    /*
+      A full record, then one without each optional field
+     */
+    private static List<ApiObject> contacts() {
+        List<ApiObject> contacts = new ArrayList<>();
+
+        contacts.add(contact(1, "Ann", "Lee", "Austin", true));
+        contacts.add(contact(2, null, "Ng", "Dallas", false));
+        contacts.add(contact(3, "Bo", null, null, true));
+
+        ApiObject noActive = contact(4, "Cy", "Park", "Waco", false);
+        noActive.remove("active");
+        contacts.add(noActive);
+
+        return contacts;
+    }
+
+    private static ApiObject apiToCanon() {
+        ApiObject convertObj = new ApiObject();
+
+        ApiObject id = convertObj.createObject("id");
+
+        id.setString("field", "canonId");
+        id.setBoolean("required", true);
+        id.setString("type", "integer");
+
+        convertObj.setString("address.city", "city");
+        convertObj.setString("lastName", "canonLast");
+
+        ApiObject firstName = convertObj.createObject("firstName");
+
+        firstName.setString("field", "canonFirst");
+        firstName.setString("method", "upper");
+
+        ApiObject active = convertObj.createObject("active");
+
+        active.setString("field", "activeInt");
+        active.setString("method", "boolToInt");
+
+        return convertObj;
+    }
+
+    private static ApiObject canonToDb() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("canonId", "db_id");
+        convertObj.setString("city", "db.city");
+        convertObj.setString("canonLast", "last_name");
+
+        ApiObject length = convertObj.createObject("canonFirst");
+
+        length.setString("field", "first_length");
+        length.setString("method", "length");
+
+        ApiObject copy = convertObj.createObject("canonFirst#1");
+
+        copy.setString("field", "first_name");
+
+        ApiObject active = convertObj.createObject("activeInt");
+
+        active.setString("field", "active");
+        active.setString("method", "intToBool");
+
+        return convertObj;
+    }
+
+    private static ApiObject dbToReport() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("db_id", "reportId");
+        convertObj.setString("db.city", "where");
+
+        ApiObject length = convertObj.createObject("first_length");
+
+        length.setString("field", "firstLength");
+        length.setString("type", "integer");
+        length.setInteger("default", 0);
+
+        convertObj.setString("active", "isActive");
+
+        return convertObj;
+    }
+}
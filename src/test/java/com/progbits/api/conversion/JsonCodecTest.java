@@ -0,0 +1,232 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.Test;
+
+/**
+ * The pooled UTF-8 decoder must read bytes the same as new String(bytes,
+ * UTF_8)
+ */
+public class JsonCodecTest {
+
+    private static final byte[] PREFIX = "{\"value\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void decodesValidUtf8LikeString() throws ApiException {
+        String[] samples = {
+            "",
+            "plain ascii",
+            "quote \" and backslash \\",
+            "line\nbreak\ttab\rreturn",
+            "control \u0001 \u001f",
+            "Zürich ñ ß",
+            "snowman ☃ and euro €",
+            "clef 𝄞 and face 😀",
+            "\uFFFD \uFFFF",
+            "ü".repeat(5_000) + "😀".repeat(5_000)
+        };
+
+        for (String value : samples) {
+            ApiObject obj = new ApiObject();
+
+            obj.setString("value", value);
+
+            assertEquals(JsonCodec.read(JsonCodec.writeBytes(obj)).getString("value"), value);
+        }
+    }
+
+    @Test
+    public void decodesMalformedUtf8LikeString() throws ApiException {
+        Random random = new Random(21);
+
+        for (int i = 0; i < 100_000; i++) {
+            byte[] value = new byte[random.nextInt(1, 12)];
+
+            for (int j = 0; j < value.length; j++) {
+                // Lead and continuation bytes, with letters between, but no quote, backslash or control
+                value[j] = (byte) (random.nextInt(3) == 0 ? random.nextInt('a', 'z' + 1) : random.nextInt(0x80, 0x100));
+            }
+
+            byte[] bytes = document(value);
+
+            assertEquals(JsonCodec.read(bytes).getString("value"), new String(value, StandardCharsets.UTF_8), Arrays.toString(value));
+        }
+    }
+
+    @Test
+    public void decodesKnownMalformedForms() throws ApiException {
+        int[][] samples = {
+            {0xC0, 0xAF}, // Overlong slash
+            {0xE0, 0x80, 0xAF}, // Overlong three byte
+            {0xF0, 0x80, 0x80, 0xAF}, // Overlong four byte
+            {0xED, 0xA0, 0x80}, // High surrogate
+            {0xED, 0xBF, 0xBF}, // Low surrogate
+            {0xF4, 0x90, 0x80, 0x80}, // Above U+10FFFF
+            {0xF5, 0x80}, // Invalid lead
+            {0xE2, 0x82}, // Truncated
+            {0xF0, 0x9F, 0x98}, // Truncated four byte
+            {0x80, 0xBF}, // Lone continuations
+            {0xEF, 0xBF, 0xBF}, // U+FFFF
+            {0xF4, 0x8F, 0xBF, 0xBF} // U+10FFFF
+        };
+
+        for (int[] sample : samples) {
+            byte[] value = new byte[sample.length];
+
+            for (int i = 0; i < sample.length; i++) {
+                value[i] = (byte) sample[i];
+            }
+
+            assertEquals(JsonCodec.read(document(value)).getString("value"), new String(value, StandardCharsets.UTF_8), Arrays.toString(sample));
+        }
+    }
+
+    @Test
+    public void readsFromBufferPosition() throws ApiException {
+        byte[] doc = document("Zürich ✓ 😀".getBytes(StandardCharsets.UTF_8));
+        byte[] padded = new byte[doc.length + 7];
+
+        System.arraycopy(doc, 0, padded, 3, doc.length);
+
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 3, doc.length);
+
+        assertEquals(JsonCodec.read(buffer).getString("value"), "Zürich ✓ 😀");
+        assertEquals(buffer.position(), 3);
+    }
+
+    @Test
+    public void bytesMatchText() throws ApiException {
+        for (int i = 0; i < 5; i++) {
+            ApiObject obj = new ApiObject();
+
+            obj.createList("root");
+            obj.getList("root").addAll(contacts(i));
+
+            String text = JsonCodec.write(obj);
+
+            assertEquals(JsonCodec.writeBytes(obj), text.getBytes(StandardCharsets.UTF_8));
+            assertEquals(JsonCodec.write(JsonCodec.read(JsonCodec.writeBytes(obj))), JsonCodec.write(JsonCodec.read(text)));
+        }
+    }
+
+    @Test
+    public void largeDocumentsGrowTheBuffer() throws ApiException {
+        ApiObject obj = new ApiObject();
+
+        obj.createList("root");
+        obj.getList("root").addAll(contacts(20_000));
+
+        String text = JsonCodec.write(obj);
+
+        assertEquals(JsonCodec.write(JsonCodec.read(text.getBytes(StandardCharsets.UTF_8))), text);
+        assertEquals(JsonCodec.write(JsonCodec.read("{\"small\":1}".getBytes(StandardCharsets.UTF_8))), JsonCodec.write(JsonCodec.read("{\"small\":1}")));
+    }
+
+    @Test
+    public void invalidJsonThrows410() {
+        expectThrows(ApiException.class, () -> JsonCodec.read("{\"value\":"));
+        expectThrows(ApiException.class, () -> JsonCodec.read("{\"value\":".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void invalidJsonSetsFieldToNull() throws ApiException {
+        ApiObjectConverter converter = new ApiObjectConverter();
+
+        converter.configure();
+
+        ApiObject subject = new ApiObject();
+
+        subject.setString("text", "{\"value\":");
+        subject.put("bytes", "{\"value\":".getBytes(StandardCharsets.UTF_8));
+
+        ApiObject converted = converter.convertObjectV2(subject, convertObj("text", "string2Json", "bytes", "bytes2Json"), false);
+
+        assertNull(converted.get("text_obj"));
+        assertNull(converted.get("bytes_obj"));
+    }
+
+    @Test
+    public void converterRoundTrip() throws ApiException {
+        ApiObjectConverter converter = new ApiObjectConverter();
+
+        converter.configure();
+
+        ApiObject props = new ApiObject();
+
+        props.createList("contacts");
+        props.getList("contacts").addAll(contacts(3));
+
+        ApiObject subject = new ApiObject();
+
+        subject.setObject("text", props);
+        subject.setObject("bytes", props);
+
+        ApiObject forward = convertObj("text", "json2String", "bytes", "json2Bytes");
+        ApiObject row = converter.convertObjectV2(subject, forward, false);
+
+        assertEquals(row.getString("text_obj"), JsonCodec.write(props));
+        assertEquals((byte[]) row.get("bytes_obj"), JsonCodec.writeBytes(props));
+
+        ApiObject back = converter.convertObjectV2(row, converter.reverseConvertObject(forward), false);
+
+        assertEquals(JsonCodec.write(back.getObject("text")), JsonCodec.write(props));
+        assertEquals(JsonCodec.write(back.getObject("bytes")), JsonCodec.write(props));
+    }
+
+    private static ApiObject convertObj(String textField, String textMethod, String bytesField, String bytesMethod) {
+        ApiObject convertObj = new ApiObject();
+
+        ApiObject text = convertObj.createObject(textField);
+        text.setString("field", textField + "_obj");
+        text.setString("method", textMethod);
+
+        ApiObject bytes = convertObj.createObject(bytesField);
+        bytes.setString("field", bytesField + "_obj");
+        bytes.setString("method", bytesMethod);
+
+        return convertObj;
+    }
+
+    private static List<ApiObject> contacts(int count) {
+        List<ApiObject> contacts = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            ApiObject contact = new ApiObject();
+
+            contact.setInteger("id", i);
+            contact.setString("name", "Contact \"" + i + "\" Zoë");
+            contact.setDouble("amount", i * 1.25);
+            contact.setBoolean("active", i % 2 == 0);
+
+            ApiObject address = contact.createObject("address");
+
+            address.setString("city", "Zürich");
+            address.setString("zip", String.format("%05d", i));
+
+            contacts.add(contact);
+        }
+
+        return contacts;
+    }
+
+    private static byte[] document(byte[] value) {
+        byte[] doc = new byte[PREFIX.length + value.length + SUFFIX.length];
+
+        System.arraycopy(PREFIX, 0, doc, 0, PREFIX.length);
+        System.arraycopy(value, 0, doc, PREFIX.length, value.length);
+        System.arraycopy(SUFFIX, 0, doc, PREFIX.length + value.length, SUFFIX.length);
+
+        return doc;
+    }
+}
@@ -0,0 +1,145 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Round trips JSON from many threads at once, each of which must only ever
+ * read back its own data from the pooled parsers and buffers
+ */
+public class JsonConcurrencyTest {
+
+    private static final int ROUND_TRIPS = 200;
+
+    private ApiObjectConverter converter;
+    private ApiObject writeConvert;
+    private ApiObject readConvert;
+    private ApiObject textConvert;
+    private ApiObject textReadConvert;
+
+    @BeforeClass
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+
+        writeConvert = fieldConvert("json2Bytes");
+        readConvert = converter.reverseConvertObject(writeConvert);
+        textConvert = fieldConvert("json2String");
+        textReadConvert = converter.reverseConvertObject(textConvert);
+    }
+
+    @Test
+    public void platformThreads() throws Exception {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            runAll(executor, threads, ROUND_TRIPS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void virtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            runAll(executor, 1_000, ROUND_TRIPS / 10);
+        }
+    }
+
+    /**
+     * Start every task at once, each round tripping its own subject
+     */
+    private void runAll(ExecutorService executor, int tasks, int roundTrips) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            ApiObject subject = subject(i);
+            String expected = converter.convertObjectV2(subject, textConvert, false).getString("props");
+
+            results.add(executor.submit(task(start, subject, expected, roundTrips)));
+        }
+
+        start.countDown();
+
+        for (Future<Integer> result : results) {
+            assertEquals(result.get(60, TimeUnit.SECONDS).intValue(), roundTrips);
+        }
+    }
+
+    private Callable<Integer> task(CountDownLatch start, ApiObject subject, String expected, int roundTrips) {
+        return () -> {
+            start.await();
+
+            for (int i = 0; i < roundTrips; i++) {
+                assertEquals(roundTrip(subject), expected);
+            }
+
+            return roundTrips;
+        };
+    }
+
+    /**
+     * json2Bytes, bytes2Json, json2String, string2Json then json2String
+     */
+    private String roundTrip(ApiObject subject) throws ApiException {
+        ApiObject row = converter.convertObjectV2(subject, writeConvert, false);
+
+        assertTrue(row.get("props") instanceof byte[]);
+
+        ApiObject fromBytes = converter.convertObjectV2(row, readConvert, false);
+        ApiObject textRow = converter.convertObjectV2(fromBytes, textConvert, false);
+        ApiObject fromText = converter.convertObjectV2(textRow, textReadConvert, false);
+
+        return converter.convertObjectV2(fromText, textConvert, false).getString("props");
+    }
+
+    /**
+     * A subject of a different size for each task, with text outside ASCII
+     */
+    private static ApiObject subject(int task) {
+        ApiObject props = new ApiObject();
+
+        props.setString("name", "Task " + task + " Zoë ☃ 𝄞");
+        props.setInteger("task", task);
+        props.createList("records");
+
+        for (int i = 0; i <= task % 20; i++) {
+            ApiObject record = new ApiObject();
+
+            record.setInteger("id", i);
+            record.setString("owner", "task-" + task);
+            record.setDouble("amount", task + i / 100.0);
+            props.getList("records").add(record);
+        }
+
+        ApiObject subject = new ApiObject();
+
+        subject.setObject("properties", props);
+
+        return subject;
+    }
+
+    private static ApiObject fieldConvert(String method) {
+        ApiObject convertObj = new ApiObject();
+        ApiObject fieldObj = convertObj.createObject("properties");
+
+        fieldObj.setString("field", "props");
+        fieldObj.setString("method", method);
+
+        return convertObj;
+    }
+}
@@ -0,0 +1,164 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import com.progbits.api.model.ApiObjectUtils;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * string2Json with lazy: true
+ */
+public class LazyJsonTest {
+
+    private static final String TEXT = "{ \"color\" : \"red\", \"sizes\" : [ { \"size\" : 1 } ] }";
+
+    private ApiObjectConverter converter;
+
+    @BeforeClass
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+    }
+
+    private static ApiObject forward() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "id");
+
+        ApiObject props = convertObj.createObject("properties");
+        props.setString("field", "properties");
+        props.setString("method", "string2Json");
+        props.setBoolean("lazy", true);
+
+        return convertObj;
+    }
+
+    private static ApiObject back() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "id");
+
+        ApiObject props = convertObj.createObject("properties");
+        props.setString("field", "properties");
+        props.setString("method", "json2String");
+
+        return convertObj;
+    }
+
+    private ApiObject row(String text) {
+        ApiObject row = new ApiObject();
+
+        row.setInteger("id", 1);
+        row.setString("properties", text);
+
+        return row;
+    }
+
+    private LazyJson lazy(String text) throws ApiException {
+        return (LazyJson) converter.convertObjectV2(row(text), forward(), false).getObject("properties");
+    }
+
+    @Test
+    public void unreadValuePassesThrough() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(row(TEXT), forward(), false);
+        LazyJson lazy = (LazyJson) converted.get("properties");
+
+        assertFalse(lazy.isParsed());
+
+        ApiObject written = converter.convertObjectV2(converted, back(), false);
+
+        assertEquals(written.getString("properties"), TEXT);
+        assertFalse(lazy.isParsed());
+    }
+
+    @Test
+    public void readsAsApiObject() throws ApiException {
+        LazyJson lazy = lazy(TEXT);
+
+        assertEquals(lazy.getString("color"), "red");
+        assertEquals(lazy.getType("sizes"), ApiObject.TYPE_ARRAYLIST);
+        assertTrue(lazy.containsKey("color"));
+        assertTrue(lazy.isParsed());
+        assertFalse(lazy.isModified());
+    }
+
+    @Test
+    public void parsedButUnchangedKeepsText() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(row(TEXT), forward(), false);
+
+        assertEquals(converted.getObject("properties").getString("color"), "red");
+
+        assertEquals(converter.convertObjectV2(converted, back(), false).getString("properties"), TEXT);
+    }
+
+    @Test
+    public void writeIsSerialized() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(row(TEXT), forward(), false);
+        LazyJson lazy = (LazyJson) converted.getObject("properties");
+
+        lazy.setString("color", "blue");
+
+        assertTrue(lazy.isModified());
+
+        String text = converter.convertObjectV2(converted, back(), false).getString("properties");
+
+        assertEquals(text, JsonCodec.write(lazy));
+        assertEquals(JsonCodec.read(text).getString("color"), "blue");
+    }
+
+    @Test
+    public void changeThroughListIsSerialized() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(row(TEXT), forward(), false);
+        LazyJson lazy = (LazyJson) converted.getObject("properties");
+
+        lazy.getList("sizes").get(0).setInteger("size", 2);
+
+        assertTrue(lazy.isModified());
+
+        String text = converter.convertObjectV2(converted, back(), false).getString("properties");
+
+        assertEquals(JsonCodec.read(text).getList("sizes").get(0).getInteger("size"), Integer.valueOf(2));
+    }
+
+    @Test
+    public void invalidTextReadsAsEmpty() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(row("{\"color\":"), forward(), false);
+        LazyJson lazy = (LazyJson) converted.getObject("properties");
+
+        assertNull(lazy.getString("color"));
+        assertEquals(converter.convertObjectV2(converted, back(), false).getString("properties"), "{\"color\":");
+    }
+
+    @Test
+    public void passesObjectChecks() throws ApiException {
+        ApiObject convertObj = new ApiObject();
+
+        ApiObject props = convertObj.createObject("properties");
+        props.setString("field", "properties");
+        props.setString("type", "object");
+        props.setBoolean("required", true);
+
+        ApiObject subject = new ApiObject();
+
+        subject.put("properties", lazy(TEXT));
+
+        ApiObject converted = converter.convertObjectV2(subject, convertObj, false);
+
+        assertEquals(converted.getObject("properties").getString("color"), "red");
+    }
+
+    @Test
+    public void copiesAndEncodesAsApiObject() throws ApiException {
+        LazyJson lazy = lazy(TEXT);
+        ApiObject parsed = JsonCodec.read(TEXT);
+
+        assertEquals(ApiObjectUtils.cloneApiObject(lazy, null), parsed);
+        assertEquals(lazy, parsed);
+        assertEquals(JsonCodec.write(BinaryCodec.decode(BinaryCodec.encode(lazy(TEXT)))), JsonCodec.write(parsed));
+    }
+}
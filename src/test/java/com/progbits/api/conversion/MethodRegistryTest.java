@@ -0,0 +1,125 @@
+package com.progbits.api.conversion;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.Test;
+
+/**
+ * Registering, pairing and removing methods
+ */
+public class MethodRegistryTest {
+
+    private static final ApiMethodHandler FIRST = (from, to, fieldFrom, processObj) -> {
+    };
+    private static final ApiMethodHandler SECOND = (from, to, fieldFrom, processObj) -> {
+    };
+    private static final ApiMethodHandler THIRD = (from, to, fieldFrom, processObj) -> {
+    };
+
+    @Test
+    public void repairingDropsOldReverse() {
+        MethodRegistry registry = new MethodRegistry();
+
+        registry.registerPair("encode", FIRST, "decode", SECOND);
+        registry.registerPair("encode", FIRST, "decodeV2", THIRD);
+
+        assertEquals(registry.getReverse("encode"), "decodeV2");
+        assertEquals(registry.getReverse("decodeV2"), "encode");
+        assertNull(registry.getReverse("decode"));
+        assertSame(registry.get("decode"), SECOND);
+    }
+
+    @Test
+    public void repairingReverseDropsOldForward() {
+        MethodRegistry registry = new MethodRegistry();
+
+        registry.registerPair("encode", FIRST, "decode", SECOND);
+        registry.registerPair("encodeV2", THIRD, "decode", SECOND);
+
+        assertEquals(registry.getReverse("decode"), "encodeV2");
+        assertNull(registry.getReverse("encode"));
+        assertEquals(registry.getReverseMethods().size(), 2);
+    }
+
+    @Test
+    public void repairingSamePairKeepsIt() {
+        MethodRegistry registry = new MethodRegistry();
+
+        registry.registerPair("encode", FIRST, "decode", SECOND);
+        registry.registerPair("decode", SECOND, "encode", FIRST);
+
+        assertEquals(registry.getReverse("encode"), "decode");
+        assertEquals(registry.getReverse("decode"), "encode");
+    }
+
+    @Test
+    public void unregisterDropsBothDirections() {
+        MethodRegistry registry = new MethodRegistry();
+
+        registry.registerPair("encode", FIRST, "decode", SECOND);
+        registry.unregister("encode");
+
+        assertNull(registry.get("encode"));
+        assertNull(registry.getReverse("decode"));
+        assertSame(registry.get("decode"), SECOND);
+    }
+
+    @Test
+    public void bindingFollowsChanges() {
+        MethodRegistry registry = new MethodRegistry();
+        MethodRegistry.Binding binding = registry.bind("encode");
+
+        assertNull(binding.getHandler());
+
+        registry.register("encode", FIRST);
+        assertSame(binding.getHandler(), FIRST);
+
+        registry.register("encode", SECOND);
+        assertSame(binding.getHandler(), SECOND);
+
+        registry.unregister("encode");
+        assertNull(binding.getHandler());
+        assertSame(registry.bind("encode"), binding);
+    }
+
+    @Test
+    public void listenersHearUnpairedMethods() {
+        MethodRegistry registry = new MethodRegistry();
+        List<String> changed = new ArrayList<>();
+
+        registry.registerPair("encode", FIRST, "decode", SECOND);
+        registry.addListener((name, previous, current) -> changed.add(name));
+        registry.registerPair("encode", FIRST, "decodeV2", THIRD);
+
+        assertEquals(changed, List.of("encode", "decodeV2", "decode"));
+    }
+
+    @Test
+    public void cacheKeepsReverse() {
+        MethodRegistry registry = new MethodRegistry();
+
+        registry.registerPair("encode", FIRST, "decode", SECOND);
+
+        CachingMethodHandler caching = registry.cache("encode", 16, null);
+
+        assertSame(registry.get("encode"), caching);
+        assertSame(caching.getDelegate(), FIRST);
+        assertEquals(registry.getReverse("encode"), "decode");
+
+        expectThrows(IllegalArgumentException.class, () -> registry.cache("missing", 16, null));
+    }
+
+    @Test
+    public void rejectsNullHandler() {
+        MethodRegistry registry = new MethodRegistry();
+
+        expectThrows(IllegalArgumentException.class, () -> registry.register("encode", null));
+        expectThrows(IllegalArgumentException.class, () -> registry.registerPair("encode", FIRST, "decode", null));
+        assertTrue(registry.getMethods().isEmpty());
+    }
+}
@@ -0,0 +1,199 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * ConversionMetrics and ConversionListener
+ */
+public class MetricsTest {
+
+    private ApiObjectConverter converter;
+
+    @BeforeMethod
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.register("upper", (from, to, fieldFrom, processObj) -> {
+            String value = from.getString(fieldFrom);
+
+            if ("bad".equals(value)) {
+                throw new ApiException(415, "Bad Value");
+            }
+
+            to.setString(processObj.getString("field"), value.toUpperCase());
+        });
+    }
+
+    private static ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "key");
+
+        ApiObject name = convertObj.createObject("name");
+        name.setString("field", "upperName");
+        name.setString("method", "upper");
+
+        return convertObj;
+    }
+
+    private static ApiObject record(int id, String name) {
+        ApiObject record = new ApiObject();
+
+        record.setInteger("id", id);
+        record.setString("name", name);
+
+        return record;
+    }
+
+    private static ApiObject root(String... names) {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+
+        for (int i = 0; i < names.length; i++) {
+            root.getList("root").add(record(i, names[i]));
+        }
+
+        return root;
+    }
+
+    private static ApiObject stats(ConversionMetrics metrics, String group, String name) {
+        return metrics.snapshot().getObject(group).getObject(name);
+    }
+
+    @Test
+    public void countsNamedMapping() throws ApiException {
+        ConversionMetrics metrics = converter.enableMetrics();
+
+        converter.getPlan(convertObj()).setName("CONVERT_CONTACT");
+
+        converter.convertObjectV2(root("ann", "bob", "cy"), convertObj(), false);
+        converter.convertObjectV2(record(9, "dee"), convertObj(), false);
+
+        ApiObject mapping = stats(metrics, "mappings", "CONVERT_CONTACT");
+
+        assertEquals(mapping.getLong("calls"), Long.valueOf(2));
+        assertEquals(mapping.getLong("records"), Long.valueOf(4));
+        assertEquals(mapping.getObject("latency").getLong("count"), Long.valueOf(2));
+        assertTrue(mapping.getObject("errors").keySet().isEmpty());
+    }
+
+    @Test
+    public void countsMethodCalls() throws ApiException {
+        ConversionMetrics metrics = converter.enableMetrics();
+
+        converter.convertObjectV2(root("ann", "bob", "cy"), convertObj(), false);
+
+        ApiObject method = stats(metrics, "methods", "upper");
+
+        assertEquals(method.getLong("calls"), Long.valueOf(3));
+        assertNull(method.getLong("records"));
+    }
+
+    @Test
+    public void countsErrorsByCode() {
+        ConversionMetrics metrics = converter.enableMetrics();
+
+        expectThrows(ApiException.class, () -> converter.convertObjectV2(record(1, "bad"), convertObj(), false));
+
+        ApiObject mapping = stats(metrics, "mappings", ConversionPlan.UNNAMED);
+
+        assertEquals(mapping.getLong("calls"), Long.valueOf(1));
+        assertEquals(mapping.getObject("errors").getLong("415"), Long.valueOf(1));
+        assertEquals(stats(metrics, "methods", "upper").getObject("errors").getLong("415"), Long.valueOf(1));
+    }
+
+    @Test
+    public void unnamedPlansShareOneEntry() throws ApiException {
+        ConversionMetrics metrics = converter.enableMetrics();
+
+        ApiObject other = convertObj();
+        other.setString("name", "label");
+
+        converter.convertObjectV2(record(1, "ann"), convertObj(), false);
+        converter.convertObjectV2(record(2, "bob"), other, false);
+
+        ApiObject mappings = metrics.snapshot().getObject("mappings");
+
+        assertEquals(mappings.keySet().size(), 1);
+        assertEquals(mappings.getObject(ConversionPlan.UNNAMED).getLong("calls"), Long.valueOf(2));
+    }
+
+    @Test
+    public void nameSurvivesClearPlans() throws ApiException {
+        ConversionMetrics metrics = converter.enableMetrics();
+
+        converter.getPlan(convertObj()).setName("CONVERT_CONTACT");
+        converter.clearPlans();
+
+        converter.convertObjectV2(record(1, "ann"), convertObj(), false);
+
+        assertEquals(stats(metrics, "mappings", "CONVERT_CONTACT").getLong("calls"), Long.valueOf(1));
+    }
+
+    @Test
+    public void disableStopsCollecting() throws ApiException {
+        ConversionMetrics metrics = converter.enableMetrics();
+
+        assertSame(converter.enableMetrics(), metrics);
+
+        converter.convertObjectV2(record(1, "ann"), convertObj(), false);
+        converter.disableMetrics();
+        converter.convertObjectV2(record(2, "bob"), convertObj(), false);
+
+        assertNull(converter.getMetrics());
+        assertEquals(stats(metrics, "mappings", ConversionPlan.UNNAMED).getLong("calls"), Long.valueOf(1));
+    }
+
+    @Test
+    public void resetClearsCounters() throws ApiException {
+        ConversionMetrics metrics = converter.enableMetrics();
+
+        converter.convertObjectV2(record(1, "ann"), convertObj(), false);
+        metrics.reset();
+
+        assertTrue(metrics.snapshot().getObject("mappings").keySet().isEmpty());
+        assertTrue(metrics.snapshot().getObject("methods").keySet().isEmpty());
+    }
+
+    @Test
+    public void listenerReceivesEvents() throws ApiException {
+        List<String> events = new ArrayList<>();
+
+        ConversionListener listener = new ConversionListener() {
+            @Override
+            public void conversionCompleted(String mapping, int records, long nanos) {
+                events.add("completed " + mapping + " " + records);
+            }
+
+            @Override
+            public void conversionFailed(String mapping, ApiException apx, long nanos) {
+                events.add("failed " + mapping + " " + apx.getMessage());
+            }
+
+            @Override
+            public void methodCompleted(String method, long nanos) {
+                events.add("method " + method);
+            }
+        };
+
+        converter.addConversionListener(listener);
+        converter.convertObjectV2(root("ann", "bob"), convertObj(), false);
+        expectThrows(ApiException.class, () -> converter.convertObjectV2(record(1, "bad"), convertObj(), false));
+
+        converter.removeConversionListener(listener);
+        converter.convertObjectV2(record(2, "cy"), convertObj(), false);
+
+        assertEquals(events, List.of("method upper", "method upper", "completed unnamed 2", "failed unnamed Bad Value"));
+    }
+}
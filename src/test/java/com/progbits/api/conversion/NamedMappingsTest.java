@@ -0,0 +1,132 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.model.ApiObject;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * CONVERT_* mappings, their reload and the reload thread
+ */
+public class NamedMappingsTest {
+
+    private static final ApiMethodHandler NOOP = (from, to, fieldFrom, processObj) -> {
+    };
+
+    private ApiObjectConverter converter;
+    private PlanContext context;
+
+    @BeforeMethod
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.registerPair("encode", NOOP, "decode", NOOP);
+
+        context = new PlanContext(converter.getRegistry(), new Instrumentation());
+    }
+
+    private static ApiObject mapping(String method) {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "key");
+
+        ApiObject name = convertObj.createObject("name");
+        name.setString("field", "label");
+        name.setString("method", method);
+
+        return convertObj;
+    }
+
+    private static ApiObject config() {
+        ApiObject config = new ApiObject();
+
+        config.setObject("CONVERT_CODED", mapping("encode"));
+        config.setObject("CONVERT_PLAIN", mapping("json2String"));
+        config.setString("CONVERT_IGNORED", "not an object");
+        config.setObject("OTHER", mapping("encode"));
+
+        return config;
+    }
+
+    private NamedMappings build(ApiObject config, NamedMappings previous) {
+        return NamedMappings.build(config, previous, context, converter::reverseConvertObject);
+    }
+
+    private static String reverseMethod(NamedMappings mappings, String name) {
+        return mappings.get(name).reverse().getConvertObject().getObject("label").getString("method");
+    }
+
+    private static List<Thread> reloadThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("ApiObjectConverter-reload") && thread.isAlive())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void buildsConvertObjectsOnly() {
+        NamedMappings mappings = build(config(), NamedMappings.EMPTY);
+
+        assertEquals(mappings.names(), Set.of("CONVERT_CODED", "CONVERT_PLAIN"));
+        assertEquals(mappings.get("CONVERT_CODED").forward().getName(), "CONVERT_CODED");
+        assertEquals(mappings.get("CONVERT_CODED").reverse().getName(), "CONVERT_CODED.reverse");
+        assertEquals(reverseMethod(mappings, "CONVERT_CODED"), "decode");
+        assertSame(build(null, mappings), NamedMappings.EMPTY);
+    }
+
+    @Test
+    public void reloadKeepsUnchangedMappings() {
+        NamedMappings first = build(config(), NamedMappings.EMPTY);
+
+        ApiObject config = config();
+        config.getObject("CONVERT_PLAIN").getObject("name").setString("field", "title");
+
+        NamedMappings second = build(config, first);
+
+        assertSame(second.get("CONVERT_CODED"), first.get("CONVERT_CODED"));
+        assertNotSame(second.get("CONVERT_PLAIN"), first.get("CONVERT_PLAIN"));
+    }
+
+    @Test
+    public void methodChangeRecompilesOnlyItsReverses() {
+        NamedMappings first = build(config(), NamedMappings.EMPTY);
+
+        converter.registerPair("encode", NOOP, "decodeV2", NOOP);
+
+        NamedMappings second = first.methodChanged("encode", context, converter::reverseConvertObject);
+
+        assertSame(second.get("CONVERT_CODED").forward(), first.get("CONVERT_CODED").forward());
+        assertNotSame(second.get("CONVERT_CODED").reverse(), first.get("CONVERT_CODED").reverse());
+        assertEquals(reverseMethod(second, "CONVERT_CODED"), "decodeV2");
+        assertSame(second.get("CONVERT_PLAIN"), first.get("CONVERT_PLAIN"));
+
+        assertSame(second.methodChanged("unused", context, converter::reverseConvertObject), second);
+    }
+
+    @Test
+    public void configureStartsNoThread() {
+        converter.configure();
+
+        assertTrue(reloadThreads().isEmpty(), reloadThreads().toString());
+    }
+
+    @Test
+    public void closeStopsReloadThread() throws InterruptedException {
+        converter.setMappingReloadInterval(Duration.ofMinutes(1));
+
+        List<Thread> threads = reloadThreads();
+
+        assertEquals(threads.size(), 1);
+
+        converter.close();
+        threads.get(0).join(5_000);
+
+        assertTrue(reloadThreads().isEmpty());
+    }
+}
@@ -0,0 +1,167 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * convertObjectParallel and convertObjectV2Parallel
+ */
+public class ParallelConversionTest {
+
+    private static final int RECORDS = 1_000;
+    private static final int CHUNK_SIZE = 250;
+
+    private final AtomicInteger processed = new AtomicInteger();
+
+    /*
+      Released by the first good record, so a failing record only fails
+      once another chunk is running
+     */
+    private volatile CountDownLatch running;
+
+    private ExecutorService executor;
+    private ApiObjectConverter converter;
+
+    @BeforeClass
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.setParallelExecutor(executor);
+        converter.setParallelThreshold(1);
+        converter.setParallelChunkSize(CHUNK_SIZE);
+
+        // Fails with an ApiException for "bad", and a RuntimeException for "boom"
+        converter.register("check", (from, to, fieldFrom, processObj) -> {
+            processed.incrementAndGet();
+
+            String value = from.getString(fieldFrom);
+
+            try {
+                if ("bad".equals(value) || "boom".equals(value)) {
+                    running.await(5, TimeUnit.SECONDS);
+                } else {
+                    running.countDown();
+                    Thread.sleep(1);
+                }
+            } catch (InterruptedException ix) {
+                Thread.currentThread().interrupt();
+            }
+
+            if ("bad".equals(value)) {
+                throw new ApiException(415, "Bad Value");
+            } else if ("boom".equals(value)) {
+                throw new IllegalStateException("Boom");
+            }
+
+            to.setString(processObj.getString("field"), value);
+        });
+    }
+
+    @AfterClass
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @BeforeMethod
+    public void reset() {
+        processed.set(0);
+        running = new CountDownLatch(1);
+    }
+
+    private static ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("id", "key");
+
+        ApiObject value = convertObj.createObject("value");
+        value.setString("field", "checked");
+        value.setString("method", "check");
+
+        return convertObj;
+    }
+
+    private static ApiObject root(int failAt, String failValue) {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+
+        for (int i = 0; i < RECORDS; i++) {
+            ApiObject record = new ApiObject();
+
+            record.setInteger("id", i);
+            record.setString("value", i == failAt ? failValue : "ok" + i);
+            root.getList("root").add(record);
+        }
+
+        return root;
+    }
+
+    @Test
+    public void keepsOrder() throws ApiException {
+        List<ApiObject> converted = converter.convertObjectV2Parallel(root(-1, null), convertObj(), false).getList("root");
+
+        assertEquals(converted.size(), RECORDS);
+
+        for (int i = 0; i < RECORDS; i++) {
+            assertEquals(converted.get(i).getInteger("key"), Integer.valueOf(i));
+            assertEquals(converted.get(i).getString("checked"), "ok" + i);
+        }
+    }
+
+    @Test
+    public void reportsFailedRecordIndex() {
+        ApiConversionException acx = expectThrows(ApiConversionException.class,
+                () -> converter.convertObjectV2Parallel(root(537, "bad"), convertObj(), false));
+
+        assertEquals(acx.getRecordIndex(), 537);
+        assertEquals(acx.getRecordException().getMessage(), "Bad Value");
+    }
+
+    @Test
+    public void apiExceptionStopsRunningChunks() throws InterruptedException {
+        expectThrows(ApiConversionException.class, () -> converter.convertObjectV2Parallel(root(0, "bad"), convertObj(), false));
+
+        assertStopped();
+    }
+
+    @Test
+    public void runtimeExceptionStopsRunningChunks() throws InterruptedException {
+        IllegalStateException isx = expectThrows(IllegalStateException.class,
+                () -> converter.convertObjectV2Parallel(root(0, "boom"), convertObj(), false));
+
+        assertEquals(isx.getMessage(), "Boom");
+        assertStopped();
+    }
+
+    /**
+     * The chunk running beside the failed one must stop at its next record,
+     * not finish its CHUNK_SIZE records
+     */
+    private void assertStopped() throws InterruptedException {
+        Thread.sleep(CHUNK_SIZE * 2);
+
+        assertTrue(processed.get() < CHUNK_SIZE / 5, "Processed " + processed.get());
+    }
+
+    @Test
+    public void convertObjectRunsInParallelToo() throws ApiException {
+        List<ApiObject> converted = converter.convertObjectParallel(root(-1, null), convertObj(), false).getList("root");
+
+        assertEquals(converted.get(RECORDS - 1).getString("checked"), "ok" + (RECORDS - 1));
+    }
+}
@@ -0,0 +1,155 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Projections on convertObject and convertObjectV2
+ */
+public class ProjectionTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicInteger audits = new AtomicInteger();
+
+    private ApiObjectConverter converter;
+
+    @BeforeMethod
+    public void setup() {
+        lookups.set(0);
+        audits.set(0);
+
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.register("lookup", (from, to, fieldFrom, processObj) -> {
+            lookups.incrementAndGet();
+            converter.setField(to, processObj.getString("field"), "Region " + from.getString(fieldFrom));
+        });
+        converter.register("audit", (from, to, fieldFrom, processObj) -> {
+            audits.incrementAndGet();
+        });
+    }
+
+    private static ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        convertObj.setString("first_name", "firstName");
+        convertObj.setString("city", "address.city");
+        convertObj.setString("zip", "address.zip");
+
+        ApiObject region = convertObj.createObject("region_code");
+        region.setString("field", "region");
+        region.setString("method", "lookup");
+
+        ApiObject email = convertObj.createObject("email");
+        email.setString("field", "email");
+        email.setBoolean("required", true);
+
+        ApiObject audit = convertObj.createObject("updated");
+        audit.setString("method", "audit");
+
+        return convertObj;
+    }
+
+    private static ApiObject contact() {
+        ApiObject contact = new ApiObject();
+
+        contact.setString("first_name", "Ann");
+        contact.setString("city", "Austin");
+        contact.setString("zip", "78701");
+        contact.setString("region_code", "SW");
+        contact.setString("email", "ann@example.com");
+        contact.setString("updated", "2024-01-01");
+        contact.setString("notes", "unmapped");
+
+        return contact;
+    }
+
+    @Test
+    public void targetFieldsOnly() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(contact(), convertObj(), false, Projection.ofTarget("firstName"));
+
+        assertEquals(converted.getString("firstName"), "Ann");
+        assertEquals(converted.keySet(), Set.of("firstName"));
+        assertEquals(lookups.get(), 0);
+    }
+
+    @Test
+    public void parentIncludesChildren() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(contact(), convertObj(), false, Projection.ofTarget("address"));
+
+        assertEquals(converted.getObject("address").getString("city"), "Austin");
+        assertEquals(converted.getObject("address").getString("zip"), "78701");
+        assertNull(converted.get("firstName"));
+    }
+
+    @Test
+    public void sourceFieldsMapToTargets() throws ApiException {
+        ApiObject converted = converter.convertObject(contact(), convertObj(), false, Projection.ofSource("region_code", "city"));
+
+        assertEquals(converted.getString("region"), "Region SW");
+        assertEquals(converted.getObject("address").getString("city"), "Austin");
+        assertNull(converted.getObject("address").get("zip"));
+        assertEquals(lookups.get(), 1);
+    }
+
+    @Test
+    public void droppedFieldsAreNotValidated() throws ApiException {
+        ApiObject contact = contact();
+
+        contact.remove("email");
+
+        ApiObject converted = converter.convertObjectV2(contact, convertObj(), false, Projection.ofTarget("firstName"));
+
+        assertEquals(converted.getString("firstName"), "Ann");
+
+        ApiException apx = expectThrows(ApiException.class,
+                () -> converter.convertObjectV2(contact, convertObj(), false, Projection.ofTarget("email")));
+
+        assertEquals(apx.getMessage(), "email IS Required");
+    }
+
+    @Test
+    public void methodWithoutFieldAlwaysRuns() throws ApiException {
+        converter.convertObjectV2(contact(), convertObj(), false, Projection.ofTarget("firstName"));
+
+        assertEquals(audits.get(), 1);
+    }
+
+    @Test
+    public void includeAllCopiesProjectedFieldsOnly() throws ApiException {
+        ApiObject converted = converter.convertObject(contact(), convertObj(), true, Projection.ofSource("first_name", "notes"));
+
+        assertEquals(converted.getString("firstName"), "Ann");
+        assertEquals(converted.getString("notes"), "unmapped");
+        assertNull(converted.get("zip"));
+        assertNull(converted.get("city"));
+    }
+
+    @Test
+    public void projectedPlanIsCached() {
+        ConversionPlan plan = converter.getPlan(convertObj());
+        ConversionPlan projected = plan.project(Projection.ofTarget(List.of("firstName", "region")));
+
+        assertSame(plan.project(Projection.ofTarget("region", "firstName")), projected);
+        assertEquals(projected.getProjection(), Projection.ofTarget("firstName", "region"));
+        assertNotSame(plan.project(Projection.ofSource("firstName", "region")), projected);
+
+        expectThrows(IllegalArgumentException.class, () -> projected.project(Projection.ofTarget("email")));
+    }
+
+    @Test
+    public void rejectsEmptyProjection() {
+        expectThrows(IllegalArgumentException.class, () -> Projection.ofTarget());
+        expectThrows(IllegalArgumentException.class, () -> Projection.ofSource(List.of()));
+    }
+}
@@ -0,0 +1,209 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Iterator, Stream and Publisher conversions
+ */
+public class StreamingConversionTest {
+
+    private final AtomicInteger converted = new AtomicInteger();
+
+    private ApiObjectConverter converter;
+
+    @BeforeClass
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+        converter.register("count", (from, to, fieldFrom, processObj) -> {
+            converted.incrementAndGet();
+
+            to.put(processObj.getString("field"), from.get(fieldFrom));
+        });
+    }
+
+    private static ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        ApiObject id = convertObj.createObject("id");
+        id.setString("field", "key");
+        id.setString("method", "count");
+        id.setString("type", "integer");
+
+        return convertObj;
+    }
+
+    private static List<ApiObject> records(int count) {
+        List<ApiObject> records = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            ApiObject record = new ApiObject();
+
+            record.setInteger("id", i);
+            records.add(record);
+        }
+
+        return records;
+    }
+
+    @Test
+    public void iteratorConvertsOnDemand() {
+        converted.set(0);
+
+        Iterator<ApiObject> iterator = converter.convertIteratorV2(records(3).iterator(), convertObj(), false);
+
+        assertEquals(converted.get(), 0);
+        assertEquals(iterator.next().getInteger("key"), Integer.valueOf(0));
+        assertEquals(converted.get(), 1);
+    }
+
+    @Test
+    public void streamThrowsUnchecked() {
+        List<ApiObject> records = records(3);
+
+        records.get(1).setString("id", "one");
+
+        UncheckedApiException uax = expectThrows(UncheckedApiException.class,
+                () -> converter.convertStreamV2(records.stream(), convertObj(), false).collect(Collectors.toList()));
+
+        assertEquals(uax.getCause().getMessage(), "id Expected Type integer");
+    }
+
+    @Test
+    public void publisherConvertsEveryItem() {
+        ListPublisher source = new ListPublisher(records(5));
+        RecordingSubscriber subscriber = new RecordingSubscriber(-1);
+
+        converter.convertPublisherV2(source, convertObj(), false).subscribe(subscriber);
+
+        assertEquals(subscriber.items.size(), 5);
+        assertEquals(subscriber.items.get(4).getInteger("key"), Integer.valueOf(4));
+        assertTrue(subscriber.completed);
+        assertTrue(subscriber.errors.isEmpty());
+    }
+
+    @Test
+    public void conversionFailureCancelsSource() {
+        List<ApiObject> records = records(5);
+
+        records.get(2).setString("id", "two");
+
+        ListPublisher source = new ListPublisher(records);
+        RecordingSubscriber subscriber = new RecordingSubscriber(-1);
+
+        converter.convertPublisherV2(source, convertObj(), false).subscribe(subscriber);
+
+        assertTrue(source.cancelled);
+        assertEquals(subscriber.items.size(), 2);
+        assertEquals(subscriber.errors.size(), 1);
+        assertTrue(subscriber.errors.get(0) instanceof ApiException);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void throwingSubscriberIsCancelledNotErrored() {
+        ListPublisher source = new ListPublisher(records(5));
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        converter.convertPublisherV2(source, convertObj(), false).subscribe(subscriber);
+
+        assertTrue(source.cancelled);
+        assertEquals(subscriber.items.size(), 2);
+        assertTrue(subscriber.errors.isEmpty(), subscriber.errors.toString());
+        assertFalse(subscriber.completed);
+    }
+
+    /**
+     * Emits synchronously on request, and reports a subscriber that throws
+     * from onNext to its onError, as SubmissionPublisher does
+     */
+    private static final class ListPublisher implements Flow.Publisher<ApiObject> {
+
+        private final List<ApiObject> items;
+        private volatile boolean cancelled = false;
+        private int next = 0;
+
+        ListPublisher(List<ApiObject> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ApiObject> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && !cancelled && next < items.size(); i++) {
+                        try {
+                            subscriber.onNext(items.get(next++));
+                        } catch (RuntimeException rex) {
+                            subscriber.onError(rex);
+
+                            return;
+                        }
+                    }
+
+                    if (!cancelled && next == items.size()) {
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ApiObject> {
+
+        private final int throwAt;
+        private final List<ApiObject> items = new ArrayList<>();
+        private final List<Throwable> errors = new ArrayList<>();
+        private boolean completed = false;
+
+        /**
+         * @param throwAt Index of the item to throw on, -1 to never throw
+         */
+        RecordingSubscriber(int throwAt) {
+            this.throwAt = throwAt;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ApiObject item) {
+            items.add(item);
+
+            if (items.size() - 1 == throwAt) {
+                throw new IllegalStateException("Subscriber Failed");
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.progbits.api.conversion;
+
+import com.progbits.api.exception.ApiException;
+import com.progbits.api.model.ApiObject;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.expectThrows;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Defaults, required, type and collected violations with convertObjectV2
+ * semantics
+ */
+public class ValidationTest {
+
+    private ApiObjectConverter converter;
+
+    @BeforeClass
+    public void setup() {
+        converter = new ApiObjectConverter();
+        converter.configure();
+
+        // Reads a sibling of the field it is called for
+        converter.register("fullName", (from, to, fieldFrom, processObj) -> {
+            converter.setField(to, processObj.getString("field"), from.getString(fieldFrom) + " " + from.getString("lastName"));
+        });
+    }
+
+    private ApiObject convertObj() {
+        ApiObject convertObj = new ApiObject();
+
+        ApiObject firstName = convertObj.createObject("firstName");
+        firstName.setString("field", "name");
+        firstName.setString("method", "fullName");
+        firstName.setString("default", "Unknown");
+
+        ApiObject age = convertObj.createObject("age");
+        age.setString("field", "age");
+        age.setInteger("default", 0);
+        age.setString("type", "integer");
+
+        ApiObject lastName = convertObj.createObject("lastName");
+        lastName.setString("field", "last");
+        lastName.setBoolean("required", true);
+
+        convertObj.createStringArray("$required");
+        convertObj.getStringArray("$required").add("email");
+
+        return convertObj;
+    }
+
+    private ApiObject contact(String firstName, String lastName) {
+        ApiObject contact = new ApiObject();
+
+        contact.setString("firstName", firstName);
+        contact.setString("lastName", lastName);
+
+        return contact;
+    }
+
+    @Test
+    public void methodWithDefaultSeesWholeRecord() throws ApiException {
+        ApiObject subject = contact(null, "Smith");
+        ApiObject converted = converter.convertObjectV2(subject, convertObj(), false);
+
+        assertEquals(converted.getString("name"), "Unknown Smith");
+        assertEquals(converted.getInteger("age"), Integer.valueOf(0));
+        assertEquals(converted.getString("last"), "Smith");
+    }
+
+    @Test
+    public void defaultsNeverChangeSubject() throws ApiException {
+        ApiObject subject = contact(null, "Smith");
+
+        converter.convertObjectV2(subject, convertObj(), false);
+
+        assertNull(subject.get("firstName"));
+        assertFalse(subject.containsKey("age"));
+    }
+
+    @Test
+    public void setValueWinsOverDefault() throws ApiException {
+        ApiObject converted = converter.convertObjectV2(contact("Ann", "Smith"), convertObj(), false);
+
+        assertEquals(converted.getString("name"), "Ann Smith");
+    }
+
+    @Test
+    public void v2IgnoresDollarRequired() throws ApiException {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+        root.getList("root").add(contact("Ann", "Smith"));
+
+        converter.validate(root, convertObj(), true);
+
+        ApiObjectConverter collecting = new ApiObjectConverter();
+
+        collecting.configure();
+        collecting.register("fullName", (from, to, fieldFrom, processObj) -> {
+        });
+        collecting.setCollectViolations(true);
+
+        assertEquals(collecting.convertObjectV2(root, convertObj(), false).getList("root").size(), 1);
+    }
+
+    @Test
+    public void v1StillChecksDollarRequired() {
+        expectThrows(ApiException.class, () -> converter.convertObject(contact("Ann", "Smith"), convertObj(), false));
+    }
+
+    @Test
+    public void collectsEveryViolationWithRecordIndex() {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+        root.getList("root").add(contact("Ann", "Smith"));
+        root.getList("root").add(contact("Bob", null));
+
+        ApiObject badAge = contact("Cy", null);
+
+        badAge.setString("age", "ten");
+        root.getList("root").add(badAge);
+
+        ApiValidationException avx = expectThrows(ApiValidationException.class, () -> converter.validate(root, convertObj(), true));
+        List<ApiValidationException.Violation> violations = avx.getViolations();
+
+        assertEquals(violations.size(), 3);
+        assertEquals(violations.get(0).recordIndex(), 1);
+        assertEquals(violations.get(0).message(), "lastName IS Required");
+        assertEquals(violations.get(1).recordIndex(), 2);
+        assertEquals(violations.get(1).message(), "age Expected Type integer");
+        assertEquals(violations.get(2).recordIndex(), 2);
+        assertEquals(violations.get(2).field(), "lastName");
+    }
+
+    @Test
+    public void stopsAtFirstViolation() {
+        ApiObject root = new ApiObject();
+
+        root.createList("root");
+        root.getList("root").add(contact("Bob", null));
+        root.getList("root").add(contact("Cy", null));
+
+        ApiConversionException acx = expectThrows(ApiConversionException.class, () -> converter.validate(root, convertObj(), false));
+
+        assertEquals(acx.getRecordIndex(), 0);
+    }
+}